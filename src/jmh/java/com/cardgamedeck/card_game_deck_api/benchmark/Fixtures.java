@@ -0,0 +1,60 @@
+package com.cardgamedeck.card_game_deck_api.benchmark;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.GameDeck;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds domain objects outside of JPA. Entities get their ids assigned by
+ * hand, since entities without ids are all equal to each other.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static GameDeck shoe(int decks) {
+        GameDeck shoe = new GameDeck(null);
+        for (int i = 0; i < decks; i++) {
+            shoe.addDeck(new Deck("Deck " + i));
+        }
+        return shoe;
+    }
+
+    static Game game(int decks) {
+        Game game = withId(new Game("Benchmark Game"));
+        for (int i = 0; i < decks; i++) {
+            game.addDeck(new Deck("Deck " + i));
+        }
+        game.shuffleGameDeck();
+        return game;
+    }
+
+    static List<Player> seatPlayers(Game game, int players) {
+        List<Player> table = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            Player player = withId(new Player("Player " + i));
+            game.addPlayer(player);
+            table.add(player);
+        }
+        return table;
+    }
+
+    private static <T extends BaseEntity> T withId(T entity) {
+        try {
+            Field id = BaseEntity.class.getDeclaredField("id");
+            id.setAccessible(true);
+            id.set(entity, UUID.randomUUID());
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot assign an id to " + entity.getClass().getSimpleName(), e);
+        }
+    }
+}
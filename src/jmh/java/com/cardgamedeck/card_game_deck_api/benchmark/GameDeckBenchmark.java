@@ -0,0 +1,91 @@
+package com.cardgamedeck.card_game_deck_api.benchmark;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+import com.cardgamedeck.card_game_deck_api.domain.model.GameDeck;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
+import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shoe operations behind dealing, shuffling and the undealt counts, by
+ * shoe size and card state layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameDeckBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int decks;
+
+    @Param({"false", "true"})
+    private boolean compactCardState;
+
+    // Dealt from until empty, then reset from the untouched copy
+    private GameDeck dealingShoe;
+    private GameDeck fullShoe;
+
+    // Half dealt, so the undealt counts cover a realistic range
+    private GameDeck halfDealtShoe;
+
+    @Setup
+    public void setUp() {
+        CompactCardState.setEnabled(compactCardState);
+
+        fullShoe = Fixtures.shoe(decks);
+        fullShoe.shuffle();
+
+        dealingShoe = Fixtures.shoe(decks);
+        dealingShoe.copyStateFrom(fullShoe);
+
+        halfDealtShoe = Fixtures.shoe(decks);
+        halfDealtShoe.copyStateFrom(fullShoe);
+        for (int i = 0; i < halfDealtShoe.getCardCount() / 2; i++) {
+            halfDealtShoe.dealCard();
+        }
+    }
+
+    @Benchmark
+    public Card dealCard() {
+        Card card = dealingShoe.dealCard();
+        if (card == null) {
+            // Amortized over a whole shoe of deals
+            dealingShoe.copyStateFrom(fullShoe);
+            card = dealingShoe.dealCard();
+        }
+        return card;
+    }
+
+    @Benchmark
+    public GameDeck shuffle() {
+        fullShoe.shuffle();
+        return fullShoe;
+    }
+
+    @Benchmark
+    public Map<Suit, Integer> getUndealtCardsBySuit() {
+        return halfDealtShoe.getUndealtCardsBySuit();
+    }
+
+    @Benchmark
+    public Map<String, Integer> getUndealtCardsBySuitAndValue() {
+        return halfDealtShoe.getUndealtCardsBySuitAndValue();
+    }
+}
@@ -0,0 +1,62 @@
+package com.cardgamedeck.card_game_deck_api.benchmark;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand totals and the score ranking of a game, by shoe size and player
+ * count. The whole shoe is dealt out round-robin, so hands grow with both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerScoreBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int decks;
+
+    @Param({"2", "4", "8"})
+    private int players;
+
+    private Game game;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        CompactCardState.setEnabled(false);
+
+        game = Fixtures.game(decks);
+        List<Player> table = Fixtures.seatPlayers(game, players);
+        game.dealRound(table, game.getGameDeck().getCardCount() / players);
+        player = table.get(0);
+    }
+
+    @Benchmark
+    public int getTotalValue() {
+        return player.getTotalValue();
+    }
+
+    @Benchmark
+    public List<Player> getPlayersWithTotalValue() {
+        return game.getPlayersWithTotalValue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.cardgamedeck.card_game_deck_api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends requests to the API and records how long each one took under the
+ * name of its operation. A response with an error status is recorded as
+ * failed and ends the session that sent it.
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final LatencyRecorder recorder;
+
+    ApiClient(URI baseUri, LatencyRecorder recorder) {
+        this.baseUri = baseUri;
+        this.recorder = recorder;
+    }
+
+    JsonNode post(String operation, String path, Map<String, ?> body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        return objectMapper.readTree(send(operation, request).body());
+    }
+
+    /**
+     * A conditional GET: sends the ETag of the last response, if any.
+     *
+     * @return the response, with a 304 status if nothing changed since
+     */
+    HttpResponse<String> get(String operation, String path, String etag) throws IOException, InterruptedException {
+        HttpRequest.Builder request = request(path).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return send(operation, request);
+    }
+
+    void delete(String operation, String path) throws IOException, InterruptedException {
+        send(operation, request(path).DELETE());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(baseUri.getPath() + path)).timeout(TIMEOUT);
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(operation, System.nanoTime() - start, true);
+            throw e;
+        }
+        boolean failed = response.statusCode() >= 400;
+        recorder.record(operation, System.nanoTime() - start, failed);
+        if (failed) {
+            throw new IllegalStateException(operation + " answered " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,49 @@
+package com.cardgamedeck.card_game_deck_api.load;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One game from start to end, as a table of players would play it: create
+ * the game, add the shoe, seat the players, then deal rounds while every
+ * player polls the scores, and finally delete the game.
+ */
+final class GameSession {
+
+    private final ApiClient api;
+    private final LoadOptions options;
+
+    GameSession(ApiClient api, LoadOptions options) {
+        this.api = api;
+        this.options = options;
+    }
+
+    void play(int user, int session) throws Exception {
+        String gameId = api.post("create game", "/games", Map.of("name", "Load " + user + " " + session))
+                .get("id").asText();
+        String game = "/games/" + gameId;
+        api.post("add decks", game + "/decks", Map.of("deckCount", options.decks()));
+
+        List<String> playerIds = new ArrayList<>(options.players());
+        for (int i = 0; i < options.players(); i++) {
+            String playerId = api.post("create player", "/players", Map.of("name", "Player " + user + " " + i))
+                    .get("id").asText();
+            api.post("join game", game + "/players/" + playerId, Map.of());
+            playerIds.add(playerId);
+        }
+
+        String[] etags = new String[options.players()];
+        for (int round = 0; round < options.rounds(); round++) {
+            api.post("deal round", game + "/deal-round", Map.of("playerIds", playerIds, "count", options.cards()));
+            // Every player polls; only the first poll after a deal sees a change
+            for (int i = 0; i < options.players(); i++) {
+                HttpResponse<String> scores = api.get("poll scores", game + "/players/scores", etags[i]);
+                etags[i] = scores.headers().firstValue("ETag").orElse(etags[i]);
+            }
+        }
+
+        api.delete("delete game", game);
+    }
+}
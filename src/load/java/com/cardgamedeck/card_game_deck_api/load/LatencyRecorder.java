@@ -0,0 +1,111 @@
+package com.cardgamedeck.card_game_deck_api.load;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the latency of every request by operation, and reports the
+ * throughput and latency percentiles of each one.
+ */
+final class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    // In the order operations were first seen, which is the order of a session
+    private final Map<String, Samples> operations = new LinkedHashMap<>();
+
+    void record(String operation, long nanos, boolean failed) {
+        Samples samples;
+        synchronized (operations) {
+            samples = operations.computeIfAbsent(operation, name -> new Samples());
+        }
+        samples.add(nanos, failed);
+    }
+
+    /**
+     * Drops everything recorded so far, at the end of the warmup.
+     */
+    void reset() {
+        synchronized (operations) {
+            operations.values().forEach(Samples::clear);
+        }
+    }
+
+    void report(PrintStream out, double seconds) {
+        out.printf("%-16s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+
+        Samples total = new Samples();
+        synchronized (operations) {
+            operations.forEach((operation, samples) -> {
+                report(out, operation, samples, seconds);
+                total.addAll(samples);
+            });
+        }
+        report(out, "total", total, seconds);
+    }
+
+    private static void report(PrintStream out, String operation, Samples samples, double seconds) {
+        long[] sorted = samples.sorted();
+        out.printf("%-16s %9d %7d %9.1f", operation, sorted.length, samples.failed(), sorted.length / seconds);
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.2f", millis(percentile(sorted, percentile)));
+        }
+        out.printf(" %9.2f%n", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    // Nearest rank
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int failed;
+
+        synchronized void add(long sample, boolean failedRequest) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = sample;
+            if (failedRequest) {
+                failed++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            long[] samples = other.sorted();
+            for (long sample : samples) {
+                add(sample, false);
+            }
+            failed += other.failed();
+        }
+
+        synchronized void clear() {
+            count = 0;
+            failed = 0;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int failed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cardgamedeck.card_game_deck_api.load;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The workload of a load test, read from {@code --name=value} arguments.
+ * Arguments it does not know are passed on to the application it boots.
+ */
+final class LoadOptions {
+
+    private final int users;
+    private final int seconds;
+    private final int warmupSeconds;
+    private final int decks;
+    private final int players;
+    private final int rounds;
+    private final int cards;
+    private final URI url;
+    private final List<String> applicationArgs;
+
+    private LoadOptions(Map<String, String> options, List<String> applicationArgs) {
+        this.users = intOption(options, "users", 32);
+        this.seconds = intOption(options, "seconds", 30);
+        this.warmupSeconds = intOption(options, "warmup", 10);
+        this.decks = intOption(options, "decks", 6);
+        this.players = intOption(options, "players", 4);
+        this.rounds = intOption(options, "rounds", 5);
+        this.cards = intOption(options, "cards", 2);
+        this.url = options.containsKey("url") ? URI.create(options.get("url").replaceAll("/+$", "")) : null;
+        this.applicationArgs = applicationArgs;
+
+        if (users < 1 || seconds < 1 || warmupSeconds < 0 || decks < 1 || players < 1 || rounds < 1 || cards < 1) {
+            throw new IllegalArgumentException("Users, seconds, decks, players, rounds and cards must be at least 1");
+        }
+        if (rounds * players * cards > decks * 52) {
+            throw new IllegalArgumentException("The rounds deal more cards than " + decks + " decks hold");
+        }
+    }
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = arg.startsWith("--") && equals > 2 ? arg.substring(2, equals) : null;
+            if (name != null && !name.contains(".")) {
+                options.put(name, arg.substring(equals + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        return new LoadOptions(options, applicationArgs);
+    }
+
+    int users() {
+        return users;
+    }
+
+    int seconds() {
+        return seconds;
+    }
+
+    int warmupSeconds() {
+        return warmupSeconds;
+    }
+
+    int decks() {
+        return decks;
+    }
+
+    int players() {
+        return players;
+    }
+
+    int rounds() {
+        return rounds;
+    }
+
+    int cards() {
+        return cards;
+    }
+
+    /**
+     * The API to load, or null to boot one against an embedded database.
+     */
+    URI url() {
+        return url;
+    }
+
+    List<String> applicationArgs() {
+        return applicationArgs;
+    }
+
+    @Override
+    public String toString() {
+        return users + " users for " + seconds + " s after " + warmupSeconds + " s of warmup; each game has "
+                + decks + " decks and " + players + " players, dealt " + rounds + " rounds of " + cards + " cards";
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number: " + value);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.cardgamedeck.card_game_deck_api.load;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drives whole games through the HTTP API from many concurrent users and
+ * reports the throughput and latency percentiles of each operation.
+ * <p>
+ * Unless {@code --url} points it at a running instance, it boots the API
+ * against an in-memory H2 database in PostgreSQL mode, so it runs offline.
+ * Requests sent during the warmup are not reported.
+ */
+public final class LoadTest {
+
+    // An in-memory database, and logging quiet enough not to be what is measured
+    private static final String[] EMBEDDED_API_ARGS = {
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:load;MODE=PostgreSQL",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            // Overrides the PostgreSQL dialect of a local application.properties
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            // The devtools shutdown of in-memory databases fails once the pool is closed
+            "--spring.autoconfigure.exclude=org.springframework.boot.devtools.autoconfigure.DevToolsDataSourceAutoConfiguration",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework=WARN",
+            "--logging.level.com.cardgamedeck=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.orm.deprecation=ERROR",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    };
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+
+        ConfigurableApplicationContext api = null;
+        URI url = options.url();
+        if (url == null) {
+            api = bootApi(options.applicationArgs());
+            url = URI.create("http://localhost:" + api.getEnvironment().getProperty("local.server.port")
+                    + api.getEnvironment().getProperty("server.servlet.context-path", ""));
+        }
+
+        try {
+            System.out.println("Loading " + url + " with " + options);
+            run(url, options);
+        } finally {
+            if (api != null) {
+                api.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext bootApi(List<String> applicationArgs) {
+        // Devtools would start the load test over in a restart class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> args = new ArrayList<>(List.of(EMBEDDED_API_ARGS));
+        // Given last, so they override the defaults above
+        args.addAll(applicationArgs);
+        return SpringApplication.run(CardGameDeckApiApplication.class, args.toArray(String[]::new));
+    }
+
+    private static void run(URI url, LoadOptions options) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        GameSession session = new GameSession(new ApiClient(url, recorder), options);
+        AtomicInteger playedGames = new AtomicInteger();
+        AtomicInteger failedGames = new AtomicInteger();
+        AtomicReference<Exception> firstFailure = new AtomicReference<>();
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.seconds());
+        ExecutorService users = Executors.newFixedThreadPool(options.users());
+        for (int user = 0; user < options.users(); user++) {
+            int userId = user;
+            users.execute(() -> {
+                // A game started before the end is played to its end
+                for (int game = 0; System.nanoTime() < end && !Thread.currentThread().isInterrupted(); game++) {
+                    try {
+                        session.play(userId, game);
+                        playedGames.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        failedGames.incrementAndGet();
+                        firstFailure.compareAndSet(null, e);
+                    }
+                }
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+        recorder.reset();
+        playedGames.set(0);
+        failedGames.set(0);
+        long start = System.nanoTime();
+
+        users.shutdown();
+        users.awaitTermination(options.seconds() + 300L, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%nMeasured %.1f s: %d games played (%.1f/s), %d failed%n%n",
+                seconds, playedGames.get(), playedGames.get() / seconds, failedGames.get());
+        recorder.report(System.out, seconds);
+        if (firstFailure.get() != null) {
+            System.out.println("\nFirst failure: " + firstFailure.get());
+        }
+    }
+}
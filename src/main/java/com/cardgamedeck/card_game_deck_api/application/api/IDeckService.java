@@ -3,7 +3,9 @@ package com.cardgamedeck.card_game_deck_api.application.api;
 import com.cardgamedeck.card_game_deck_api.application.api.base.IBaseService;
 import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for operations specific to the Deck entity.
@@ -20,6 +22,17 @@ public interface IDeckService extends IBaseService<Deck> {
      */
     Deck createDeck(String name);
 
+    /**
+     * Creates a standard 52-card deck for each name, committing them in chunks
+     * rather than in one transaction per deck. The decks of a chunk are handed
+     * to the action once the chunk is committed, in the order of the names.
+     *
+     * @param names The names of the decks to create
+     * @param action Receives each created deck
+     * @throws IllegalArgumentException if no names, or more than the bulk limit, are given
+     */
+    void createDecks(List<String> names, Consumer<? super Deck> action);
+
     /**
      * Deletes a game by its ID.
      *
@@ -1,14 +1,22 @@
 package com.cardgamedeck.card_game_deck_api.application.api;
 
 import com.cardgamedeck.card_game_deck_api.application.api.base.IBaseService;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChangedEvent;
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameReplay;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+import org.springframework.data.domain.Page;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for operations specific to the Game entity.
@@ -24,6 +32,47 @@ public interface IGameService extends IBaseService<Game> {
      */
     Game createGame(String name);
 
+    /**
+     * Gets the summary of a game, computed without loading its shoe or players.
+     *
+     * @param gameId The ID of the game
+     * @return An Optional containing the summary if the game exists, empty otherwise
+     */
+    Optional<GameSummary> findSummary(UUID gameId);
+
+    /**
+     * Gets the summaries of all games, in creation order.
+     *
+     * @return A list of all game summaries
+     */
+    List<GameSummary> findAllSummaries();
+
+    /**
+     * Gets one page of game summaries, in creation order.
+     *
+     * @param page The zero-based page index
+     * @param size The number of summaries per page
+     * @return The requested page, with the total number of games
+     */
+    Page<GameSummary> findSummaryPage(int page, int size);
+
+    /**
+     * Gets the summaries of the games created after a keyset position.
+     *
+     * @param createdAt The creation time of the last game already seen, or null for the first page
+     * @param id The ID of the last game already seen, or null for the first page
+     * @param limit The maximum number of summaries to return
+     * @return The next summaries after the given position
+     */
+    List<GameSummary> findSummariesAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    /**
+     * Visits the summary of every game in creation order, reading them from a database cursor.
+     *
+     * @param action The action to apply to each summary
+     */
+    void streamSummaries(Consumer<? super GameSummary> action);
+
     /**
      * Deletes a game by its ID.
      *
@@ -42,6 +91,30 @@ public interface IGameService extends IBaseService<Game> {
      */
     Game addDeckToGame(UUID gameId, UUID deckId);
 
+    /**
+     * Adds several decks to the game deck (shoe) at once, shuffling the shoe
+     * once after all of them have been added.
+     *
+     * @param gameId The ID of the game
+     * @param deckIds The IDs of the decks to add
+     * @return The updated game
+     * @throws jakarta.persistence.EntityNotFoundException if game or any deck not found
+     * @throws IllegalArgumentException if no decks, or more than the shoe limit, are given
+     */
+    Game addDecksToGame(UUID gameId, List<UUID> deckIds);
+
+    /**
+     * Adds fresh standard 52-card decks to the game deck (shoe) without
+     * creating deck entities for them, shuffling the shoe once afterwards.
+     *
+     * @param gameId The ID of the game
+     * @param deckCount The number of decks to add
+     * @return The updated game
+     * @throws jakarta.persistence.EntityNotFoundException if game not found
+     * @throws IllegalArgumentException if the count is not between 1 and the shoe limit
+     */
+    Game addStandardDecksToGame(UUID gameId, int deckCount);
+
     /**
      * Adds a player to the game.
      *
@@ -76,6 +149,21 @@ public interface IGameService extends IBaseService<Game> {
      */
     Game dealCardsToPlayer(UUID gameId, UUID playerId, int count);
 
+    /**
+     * Deals a round of cards to several players of the game in one operation.
+     * Cards are dealt one at a time in the given table order until every player
+     * has received the requested count.
+     *
+     * @param gameId The ID of the game
+     * @param playerIds The IDs of the players, in table order
+     * @param countPerPlayer The number of cards to deal to each player
+     * @return The updated game
+     * @throws jakarta.persistence.EntityNotFoundException if game not found
+     * @throws IllegalArgumentException if a player is not in the game, is listed twice,
+     *                                  or there are not enough cards left for the round
+     */
+    Game dealRound(UUID gameId, List<UUID> playerIds, int countPerPlayer);
+
     /**
      * Gets all players in a game with their total card values.
      * The players are sorted in descending order by their total value.
@@ -113,6 +201,37 @@ public interface IGameService extends IBaseService<Game> {
      */
     Map<String, Integer> getUndealtCardsBySuitAndValue(UUID gameId);
 
+    /**
+     * Listens to the changes of a game. The listener is called once each change is committed,
+     * in the order of the changes, and must not block.
+     *
+     * @param gameId The ID of the game
+     * @param listener Receives each change with the state of the game after it
+     * @return Cancels the subscription
+     */
+    Runnable subscribe(UUID gameId, Consumer<GameChangedEvent> listener);
+
+    /**
+     * Gets entries of the log of a game, in the order the changes were made.
+     *
+     * @param gameId The ID of the game
+     * @param from The sequence number of the first entry
+     * @param limit The most entries to return
+     * @return The entries, empty past the end of the log
+     * @throws IllegalArgumentException if no log is kept for the game
+     */
+    List<GameLogEntry> getLog(UUID gameId, long from, int limit);
+
+    /**
+     * Rebuilds a game from its latest snapshot and the log entries that follow it,
+     * and checks the result against the stored game.
+     *
+     * @param gameId The ID of the game
+     * @return The replayed game, verified against the stored one
+     * @throws IllegalArgumentException if no log is kept for the game
+     */
+    GameReplay replayLog(UUID gameId);
+
     /**
      * Shuffles the game deck (shoe).
      *
@@ -4,7 +4,7 @@ import com.cardgamedeck.card_game_deck_api.application.api.base.IBaseService;
 import com.cardgamedeck.card_game_deck_api.domain.model.Card;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -25,10 +25,10 @@ public interface IPlayerService extends IBaseService<Player> {
      * Gets the cards currently held by a player.
      *
      * @param playerId The ID of the player
-     * @return A set of cards held by the player
+     * @return The cards held by the player, in the order they were dealt
      * @throws jakarta.persistence.EntityNotFoundException if player not found
      */
-    Set<Card> getPlayerCards(UUID playerId);
+    List<Card> getPlayerCards(UUID playerId);
 
     /**
      * Calculates the total value of all cards held by a player.
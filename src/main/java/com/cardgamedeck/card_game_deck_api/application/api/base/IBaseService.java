@@ -1,8 +1,12 @@
 package com.cardgamedeck.card_game_deck_api.application.api.base;
 
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Generic base service interface that defines common operations for all entities.
@@ -29,6 +33,15 @@ public interface IBaseService<T> {
      */
     Optional<T> findById(UUID id);
 
+    /**
+     * Find the version of an entity by its ID, without loading it.
+     * The version changes every time the entity is updated.
+     *
+     * @param id The ID of the entity
+     * @return An Optional containing the version if the entity exists, empty otherwise
+     */
+    Optional<Long> findVersion(UUID id);
+
     /**
      * Get all entities of this type
      *
@@ -36,6 +49,34 @@ public interface IBaseService<T> {
      */
     List<T> findAll();
 
+    /**
+     * Get one page of entities, ordered by creation time
+     *
+     * @param page The zero-based page index
+     * @param size The number of entities per page
+     * @return The requested page, with the total number of entities
+     */
+    Page<T> findPage(int page, int size);
+
+    /**
+     * Get the entities created after a keyset position, ordered by creation time.
+     * Unlike {@link #findPage}, the cost does not grow with how deep the caller has paged.
+     *
+     * @param createdAt The creation time of the last entity already seen, or null for the first page
+     * @param id The ID of the last entity already seen, or null for the first page
+     * @param limit The maximum number of entities to return
+     * @return The next entities after the given position
+     */
+    List<T> findAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    /**
+     * Visit every entity in creation order without loading them all at once.
+     * Entities are read from a database cursor and detached once visited.
+     *
+     * @param action The action to apply to each entity
+     */
+    void streamAll(Consumer<? super T> action);
+
     /**
      * Delete an entity by its ID
      *
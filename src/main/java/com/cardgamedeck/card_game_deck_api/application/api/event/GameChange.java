@@ -0,0 +1,20 @@
+package com.cardgamedeck.card_game_deck_api.application.api.event;
+
+/**
+ * The kinds of change pushed to the subscribers of a game.
+ */
+public enum GameChange {
+    DEALT,
+    SHUFFLED,
+    DECKS_ADDED,
+    PLAYER_JOINED,
+    PLAYER_LEFT,
+    DELETED;
+
+    /**
+     * Whether the change can reorder the players' scores.
+     */
+    public boolean changesScores() {
+        return this == DEALT || this == PLAYER_JOINED || this == PLAYER_LEFT;
+    }
+}
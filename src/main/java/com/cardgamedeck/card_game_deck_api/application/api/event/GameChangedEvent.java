@@ -0,0 +1,49 @@
+package com.cardgamedeck.card_game_deck_api.application.api.event;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A committed change to a game, with the state of the game right after it.
+ * The state is copied when the change is made, so it is safe to read from
+ * any thread.
+ */
+public class GameChangedEvent {
+
+    private final UUID gameId;
+    private final GameChange change;
+    private final GameSummary summary;
+    private final List<Player> scores;
+
+    public GameChangedEvent(UUID gameId, GameChange change, GameSummary summary, List<Player> scores) {
+        this.gameId = gameId;
+        this.change = change;
+        this.summary = summary;
+        this.scores = scores;
+    }
+
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    public GameChange getChange() {
+        return change;
+    }
+
+    /**
+     * @return The game after the change, or null if it was deleted
+     */
+    public GameSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * @return Snapshots of the players sorted by total value, or null if the change left the scores as they were
+     */
+    public List<Player> getScores() {
+        return scores;
+    }
+}
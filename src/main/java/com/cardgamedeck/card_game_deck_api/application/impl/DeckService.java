@@ -8,16 +8,33 @@ import com.cardgamedeck.card_game_deck_api.domain.repository.IDeckRepository;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class DeckService extends BaseService<Deck, IDeckRepository> implements IDeckService {
 
-    public DeckService(IDeckRepository deckRepository) {
+    public static final int MAX_BULK_SIZE = 10_000;
+
+    // Decks committed per transaction by createDecks; each deck writes 53 rows
+    private static final int BULK_CHUNK_SIZE = 200;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public DeckService(IDeckRepository deckRepository, PlatformTransactionManager transactionManager) {
         super(deckRepository);
+
+        // Every chunk commits on its own, never as part of the caller's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
@@ -28,6 +45,29 @@ public class DeckService extends BaseService<Deck, IDeckRepository> implements I
         return repository.save(deck);
     }
 
+    @Override
+    public void createDecks(List<String> names, Consumer<? super Deck> action) {
+        if (names == null || names.isEmpty() || names.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BULK_SIZE + " decks can be created at once");
+        }
+
+        for (int from = 0; from < names.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunkNames = names.subList(from, Math.min(from + BULK_CHUNK_SIZE, names.size()));
+
+            List<Deck> chunk = transactionTemplate.execute(status -> {
+                List<Deck> decks = new ArrayList<>(chunkNames.size());
+                for (String name : chunkNames) {
+                    decks.add(new Deck(name));
+                }
+                return repository.saveAll(decks);
+            });
+
+            chunk.forEach(action);
+            // A request-scoped persistence context would otherwise keep every created deck
+            clearPersistenceContext();
+        }
+    }
+
     @Override
     @Transactional
     public void deleteDeck(UUID deckId) {
@@ -3,35 +3,101 @@ package com.cardgamedeck.card_game_deck_api.application.impl;
 import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
 import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
 import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChange;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChangedEvent;
 import com.cardgamedeck.card_game_deck_api.application.impl.base.BaseService;
+import com.cardgamedeck.card_game_deck_api.application.impl.cache.GameCaches;
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.GameLocks;
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.RetryOnConflict;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
+import com.cardgamedeck.card_game_deck_api.application.impl.event.GameEventHub;
+import com.cardgamedeck.card_game_deck_api.application.impl.log.GameLog;
+import com.cardgamedeck.card_game_deck_api.application.impl.metrics.GameMetrics;
 import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameReplay;
 import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummarySnapshot;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class GameService extends BaseService<Game, IGameRepository> implements IGameService {
 
+    // Most decks added to a shoe in one call, e.g. an 8-deck blackjack shoe twice over
+    public static final int MAX_SHOE_DECKS = 16;
+
     private final IDeckService deckService;
     private final IPlayerService playerService;
+    private final HotGameStore hotGames;
+    private final GameLocks gameLocks;
+    private final GameMetrics metrics;
+    private final GameEventHub events;
+    private final GameLog gameLog;
+
+    // For the methods serving hot games, which are not transactional so that a game
+    // already in memory is served without a connection
+    private final TransactionTemplate transactions;
+    private final TransactionTemplate readOnlyTransactions;
 
     public GameService(IGameRepository gameRepository,
                        DeckService deckService,
-                       PlayerService playerService) {
+                       PlayerService playerService,
+                       HotGameStore hotGames,
+                       GameLocks gameLocks,
+                       GameMetrics metrics,
+                       GameEventHub events,
+                       GameLog gameLog,
+                       PlatformTransactionManager transactionManager) {
         super(gameRepository);
         this.deckService = deckService;
         this.playerService = playerService;
+        this.hotGames = hotGames;
+        this.gameLocks = gameLocks;
+        this.metrics = metrics;
+        this.events = events;
+        this.gameLog = gameLog;
+
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactions = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactions.setReadOnly(true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Game> findById(UUID id) {
+        return repository.findWithDeckAndPlayersById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Game> findAll() {
+        return repository.findAllWithDeckAndPlayersBy();
     }
 
     @Override
@@ -41,10 +107,67 @@ public class GameService extends BaseService<Game, IGameRepository> implements I
         return repository.save(game);
     }
 
+    @Override
+    @Cacheable(cacheNames = GameCaches.SUMMARIES, key = "#gameId", unless = "#result == null")
+    public Optional<GameSummary> findSummary(UUID gameId) {
+        if (hotGames.isEnabled()) {
+            Optional<GameSummary> hot = hotGames.readIfHot(gameId, GameSummarySnapshot::new);
+            if (hot.isPresent()) {
+                return hot;
+            }
+        }
+        // Copied, so the cache holds plain values rather than a projection backed by the query result
+        return readOnlyTransactions.execute(status -> repository.findGameSummaryById(gameId)
+                .map(GameSummarySnapshot::new));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GameSummary> findAllSummaries() {
+        return repository.findAllGameSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<GameSummary> findSummaryPage(int page, int size) {
+        validatePageIndex(page);
+        validatePageSize(size);
+
+        return repository.findGameSummaryPage(PageRequest.of(page, size, CREATION_ORDER));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GameSummary> findSummariesAfter(LocalDateTime createdAt, UUID id, int limit) {
+        validatePageSize(limit);
+        validateKeysetPosition(createdAt, id);
+
+        PageRequest firstPage = PageRequest.of(0, limit);
+        if (createdAt == null) {
+            return repository.findFirstGameSummaries(firstPage);
+        }
+        return repository.findGameSummariesAfter(createdAt, id, firstPage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamSummaries(Consumer<? super GameSummary> action) {
+        try (Stream<GameSummary> summaries = repository.streamAllGameSummaries()) {
+            summaries.forEach(action);
+        }
+    }
+
     @Override
     @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE,
+            GameCaches.PLAYER_SCORES}, key = "#gameId")
     public void deleteGame(UUID gameId) {
-        Game game = repository.findById(gameId)
+        // Write back the in-memory copy in this transaction, which drops it once committed
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = repository.findWithDeckAndPlayersById(gameId)
                 .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
 
         // Clear all players' cards before deleting the game
@@ -53,30 +176,103 @@ public class GameService extends BaseService<Game, IGameRepository> implements I
         // Remove all players from the game to ensure no references remain
         game.getPlayers().clear();
 
-        // Delete the game from the repository
+        // Delete the game and its log from the repository
+        gameLog.delete(gameId);
         repository.delete(game);
+        events.publish(gameId, GameChange.DELETED, null);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE},
+            key = "#gameId")
     public Game addDeckToGame(UUID gameId, UUID deckId) {
-        Game game = repository.findById(gameId)
+        // Write back the in-memory copy in this transaction, which drops it once committed
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = repository.findWithDeckAndPlayersById(gameId)
                 .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
 
         Deck deck = deckService.findById(deckId)
                 .orElseThrow(() -> new EntityNotFoundException("Deck not found with ID: " + deckId));
 
         game.addDeck(deck);
-        game.shuffleGameDeck();
+        shuffle(game);
         game.setUpdatedAt(LocalDateTime.now());
 
-        return repository.save(game);
+        events.publish(gameId, GameChange.DECKS_ADDED, game);
+
+        return saveWithLog(game);
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE},
+            key = "#gameId")
+    public Game addDecksToGame(UUID gameId, List<UUID> deckIds) {
+        if (deckIds == null || deckIds.isEmpty() || deckIds.size() > MAX_SHOE_DECKS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHOE_DECKS + " decks can be added at once");
+        }
+
+        // Write back the in-memory copy in this transaction, which drops it once committed
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = repository.findWithDeckAndPlayersById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+
+        for (UUID deckId : deckIds) {
+            Deck deck = deckService.findById(deckId)
+                    .orElseThrow(() -> new EntityNotFoundException("Deck not found with ID: " + deckId));
+            game.addDeck(deck);
+        }
+        shuffle(game);
+        game.setUpdatedAt(LocalDateTime.now());
+
+        events.publish(gameId, GameChange.DECKS_ADDED, game);
+
+        return saveWithLog(game);
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE},
+            key = "#gameId")
+    public Game addStandardDecksToGame(UUID gameId, int deckCount) {
+        if (deckCount < 1 || deckCount > MAX_SHOE_DECKS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHOE_DECKS + " decks can be added at once");
+        }
+
+        // Write back the in-memory copy in this transaction, which drops it once committed
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = repository.findWithDeckAndPlayersById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+
+        game.addStandardDecks(deckCount);
+        shuffle(game);
+        game.setUpdatedAt(LocalDateTime.now());
+
+        events.publish(gameId, GameChange.DECKS_ADDED, game);
+
+        return saveWithLog(game);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.PLAYER_SCORES}, key = "#gameId")
     public Game addPlayerToGame(UUID gameId, UUID playerId) {
-        Game game = repository.findById(gameId)
+        // Write back the in-memory copy in this transaction, which drops it once committed
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = repository.findWithDeckAndPlayersById(gameId)
                 .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
 
         Player player = playerService.findById(playerId)
@@ -93,13 +289,22 @@ public class GameService extends BaseService<Game, IGameRepository> implements I
         game.addPlayer(player);
         game.setUpdatedAt(LocalDateTime.now());
 
-        return repository.save(game);
+        events.publish(gameId, GameChange.PLAYER_JOINED, game);
+
+        return saveWithLog(game);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE,
+            GameCaches.PLAYER_SCORES}, key = "#gameId")
     public Game removePlayerFromGame(UUID gameId, UUID playerId) {
-        Game game = repository.findById(gameId)
+        // Write back the in-memory copy in this transaction, which drops it once committed
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = repository.findWithDeckAndPlayersById(gameId)
                 .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
 
         Player player = playerService.findById(playerId)
@@ -116,83 +321,259 @@ public class GameService extends BaseService<Game, IGameRepository> implements I
         game.removePlayer(player);
         game.setUpdatedAt(LocalDateTime.now());
 
-        return repository.save(game);
+        events.publish(gameId, GameChange.PLAYER_LEFT, game);
+
+        return saveWithLog(game);
     }
 
     @Override
-    @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE,
+            GameCaches.PLAYER_SCORES}, key = "#gameId")
     public Game dealCardsToPlayer(UUID gameId, UUID playerId, int count) {
         if (count <= 0) {
             throw new IllegalArgumentException("Count must be greater than zero");
         }
 
-        Game game = repository.findById(gameId)
-                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+        if (hotGames.isEnabled()) {
+            return hotGames.update(gameId, game -> {
+                dealCards(game, findSeatedPlayer(game, playerId), count);
+                return game;
+            });
+        }
 
-        Player player = playerService.findById(playerId)
-                .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
+        return transactions.execute(status -> {
+            gameLocks.lockUntilCompletion(gameId);
+            Game game = repository.findWithDeckAndPlayersById(gameId)
+                    .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
 
-        if (!game.getPlayers().contains(player)) {
-            throw new IllegalArgumentException("Player is not in this game");
+            Player player = playerService.findById(playerId)
+                    .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
+
+            if (!game.getPlayers().contains(player)) {
+                throw new IllegalArgumentException("Player is not in this game");
+            }
+
+            dealCards(game, player, count);
+
+            return saveWithLog(game);
+        });
+    }
+
+    @Override
+    @RetryOnConflict
+    @CacheEvict(cacheNames = {GameCaches.SUMMARIES, GameCaches.UNDEALT_BY_SUIT, GameCaches.UNDEALT_BY_SUIT_AND_VALUE,
+            GameCaches.PLAYER_SCORES}, key = "#gameId")
+    public Game dealRound(UUID gameId, List<UUID> playerIds, int countPerPlayer) {
+        if (countPerPlayer <= 0) {
+            throw new IllegalArgumentException("Count must be greater than zero");
+        }
+        if (playerIds == null || playerIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one player is required");
         }
 
-        // Check if there are enough undealt cards
-        int undealtCount = game.getGameDeck().getUndealtCount();
-        if (undealtCount < count) {
-            throw new IllegalArgumentException("Not enough cards left in the deck. Requested: " + count + ", Available: " + undealtCount);
+        if (hotGames.isEnabled()) {
+            return hotGames.update(gameId, game -> {
+                dealRound(game, playerIds, countPerPlayer);
+                return game;
+            });
         }
 
+        return transactions.execute(status -> {
+            gameLocks.lockUntilCompletion(gameId);
+            Game game = repository.findWithDeckAndPlayersById(gameId)
+                    .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+
+            dealRound(game, playerIds, countPerPlayer);
+
+            return saveWithLog(game);
+        });
+    }
+
+    // Saves a changed game along with the log entries it recorded
+    private Game saveWithLog(Game game) {
+        gameLog.append(game);
+        return repository.save(game);
+    }
+
+    private void dealCards(Game game, Player player, int count) {
+        requireUndealtCards(game, count);
+
         game.dealCards(player, count);
         game.setUpdatedAt(LocalDateTime.now());
+        metrics.recordDeal(game, count);
+        events.publish(game.getId(), GameChange.DEALT, game);
+    }
 
-        return repository.save(game);
+    private void dealRound(Game game, List<UUID> playerIds, int countPerPlayer) {
+        // Resolve the table from the players already loaded with the game
+        Map<UUID, Player> seatedPlayers = game.getPlayers().stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        List<Player> tablePlayers = new ArrayList<>(playerIds.size());
+        Set<UUID> seen = new HashSet<>();
+        for (UUID playerId : playerIds) {
+            if (!seen.add(playerId)) {
+                throw new IllegalArgumentException("Player listed more than once: " + playerId);
+            }
+            Player player = seatedPlayers.get(playerId);
+            if (player == null) {
+                throw new IllegalArgumentException("Player is not in this game: " + playerId);
+            }
+            tablePlayers.add(player);
+        }
+
+        // Check if there are enough undealt cards for the whole round
+        requireUndealtCards(game, tablePlayers.size() * countPerPlayer);
+
+        game.dealRound(tablePlayers, countPerPlayer);
+        game.setUpdatedAt(LocalDateTime.now());
+        metrics.recordDeal(game, tablePlayers.size() * countPerPlayer);
+        events.publish(game.getId(), GameChange.DEALT, game);
+    }
+
+    private void requireUndealtCards(Game game, int requested) {
+        int undealtCount = game.getGameDeck().getUndealtCount();
+        if (undealtCount < requested) {
+            throw new IllegalArgumentException("Not enough cards left in the deck. Requested: " + requested + ", Available: " + undealtCount);
+        }
+    }
+
+    private Player findSeatedPlayer(Game game, UUID playerId) {
+        for (Player player : game.getPlayers()) {
+            if (player.getId().equals(playerId)) {
+                return player;
+            }
+        }
+
+        if (!playerService.existsById(playerId)) {
+            throw new EntityNotFoundException("Player not found with ID: " + playerId);
+        }
+        throw new IllegalArgumentException("Player is not in this game");
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = GameCaches.PLAYER_SCORES, key = "#gameId")
     public List<Player> getPlayersWithTotalValues(UUID gameId) {
-        Game game = repository.findById(gameId)
-                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+        if (hotGames.isEnabled()) {
+            return hotGames.read(gameId, game -> game.getPlayersWithTotalValue().stream()
+                    .map(Player::snapshot)
+                    .collect(Collectors.toList()));
+        }
 
-        return game.getPlayersWithTotalValue();
+        // Snapshots, so the cache holds no detached entities
+        return readOnlyTransactions.execute(status -> repository.findWithPlayersById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId))
+                .getPlayersWithTotalValue().stream()
+                .map(Player::snapshot)
+                .collect(Collectors.toList()));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Set<Player> getGamePlayers(UUID gameId) {
-        Game game = repository.findById(gameId)
-                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+        if (hotGames.isEnabled()) {
+            return hotGames.read(gameId, game -> game.getPlayers().stream()
+                    .map(Player::snapshot)
+                    .collect(Collectors.toSet()));
+        }
 
-        return game.getPlayers();
+        return readOnlyTransactions.execute(status -> repository.findWithPlayersById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId))
+                .getPlayers());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = GameCaches.UNDEALT_BY_SUIT, key = "#gameId")
     public Map<Suit, Integer> getUndealtCardsBySuit(UUID gameId) {
-        Game game = repository.findById(gameId)
-                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+        if (hotGames.isEnabled()) {
+            return hotGames.read(gameId, Game::getUndealtCardsBySuit);
+        }
 
-        return game.getUndealtCardsBySuit();
+        return readOnlyTransactions.execute(status -> repository.findWithGameDeckById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId))
+                .getUndealtCardsBySuit());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = GameCaches.UNDEALT_BY_SUIT_AND_VALUE, key = "#gameId")
     public Map<String, Integer> getUndealtCardsBySuitAndValue(UUID gameId) {
-        Game game = repository.findById(gameId)
-                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+        if (hotGames.isEnabled()) {
+            return hotGames.read(gameId, Game::getUndealtCardsBySuitAndValue);
+        }
 
-        return game.getUndealtCardsBySuitAndValue();
+        return readOnlyTransactions.execute(status -> repository.findWithGameDeckById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId))
+                .getUndealtCardsBySuitAndValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GameLogEntry> getLog(UUID gameId, long from, int limit) {
+        if (from < 0) {
+            throw new IllegalArgumentException("The first entry cannot be negative");
+        }
+        validatePageSize(limit);
+        requireLog(gameId);
+
+        return gameLog.findEntries(gameId, from, limit);
     }
 
     @Override
     @Transactional
-    public Game shuffleGameDeck(UUID gameId) {
-        Game game = repository.findById(gameId)
+    public GameReplay replayLog(UUID gameId) {
+        // Write back the in-memory copy first, so the log and the stored game are complete
+        gameLocks.lockUntilCompletion(gameId);
+        hotGames.evict(gameId);
+
+        Game game = requireLog(gameId);
+        GameReplay replay = gameLog.replay(gameId);
+        replay.verifyAgainst(game);
+        return replay;
+    }
+
+    private Game requireLog(UUID gameId) {
+        Game game = repository.findWithDeckAndPlayersById(gameId)
                 .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+        if (!gameLog.isEnabled() || game.getLogLength() == null) {
+            throw new IllegalArgumentException("No log is kept for game: " + gameId);
+        }
+        return game;
+    }
 
-        game.shuffleGameDeck();
-        game.setUpdatedAt(LocalDateTime.now());
+    @Override
+    public Runnable subscribe(UUID gameId, Consumer<GameChangedEvent> listener) {
+        return events.subscribe(gameId, listener);
+    }
 
-        return repository.save(game);
+    // Reorders the undealt cards only, so no cached count, summary or score changes
+    @Override
+    @RetryOnConflict
+    public Game shuffleGameDeck(UUID gameId) {
+        if (hotGames.isEnabled()) {
+            return hotGames.update(gameId, game -> {
+                shuffle(game);
+                game.setUpdatedAt(LocalDateTime.now());
+                events.publish(gameId, GameChange.SHUFFLED, game);
+                return game;
+            });
+        }
+
+        return transactions.execute(status -> {
+            gameLocks.lockUntilCompletion(gameId);
+            Game game = repository.findWithDeckAndPlayersById(gameId)
+                    .orElseThrow(() -> new EntityNotFoundException("Game not found with ID: " + gameId));
+
+            shuffle(game);
+            game.setUpdatedAt(LocalDateTime.now());
+            events.publish(gameId, GameChange.SHUFFLED, game);
+
+            return saveWithLog(game);
+        });
+    }
+
+    private void shuffle(Game game) {
+        long start = System.nanoTime();
+        game.shuffleGameDeck();
+        metrics.recordShuffle(game, System.nanoTime() - start);
     }
 }
\ No newline at end of file
@@ -2,23 +2,30 @@ package com.cardgamedeck.card_game_deck_api.application.impl;
 
 import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
 import com.cardgamedeck.card_game_deck_api.application.impl.base.BaseService;
+import com.cardgamedeck.card_game_deck_api.application.impl.cache.GameCaches;
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.RetryOnConflict;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
 import com.cardgamedeck.card_game_deck_api.domain.model.Card;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.domain.repository.IPlayerRepository;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class PlayerService extends BaseService<Player, IPlayerRepository> implements IPlayerService {
 
-    public PlayerService(IPlayerRepository playerRepository) {
+    private final HotGameStore hotGames;
+
+    public PlayerService(IPlayerRepository playerRepository, HotGameStore hotGames) {
         super(playerRepository);
+        this.hotGames = hotGames;
     }
 
     @Override
@@ -30,7 +37,7 @@ public class PlayerService extends BaseService<Player, IPlayerRepository> implem
 
     @Override
     @Transactional(readOnly = true)
-    public Set<Card> getPlayerCards(UUID playerId) {
+    public List<Card> getPlayerCards(UUID playerId) {
         Player player = repository.findById(playerId)
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
 
@@ -46,12 +53,18 @@ public class PlayerService extends BaseService<Player, IPlayerRepository> implem
         return player.getTotalValue();
     }
 
+    // The player may be seated in any game, so drop every cached ranking
     @Override
     @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = GameCaches.PLAYER_SCORES, allEntries = true)
     public Player clearPlayerCards(UUID playerId) {
         Player player = repository.findById(playerId)
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
 
+        // Write back and drop the in-memory copies holding the hand, or their next write-back restores it
+        hotGames.evictGamesOf(playerId);
+
         player.removeAllCards();
         player.setUpdatedAt(LocalDateTime.now());
 
@@ -4,12 +4,21 @@ import com.cardgamedeck.card_game_deck_api.application.api.base.IBaseService;
 import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
 import com.cardgamedeck.card_game_deck_api.domain.repository.base.IBaseRepository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the BaseService interface.
@@ -20,8 +29,19 @@ import java.util.UUID;
  */
 public abstract class BaseService<T extends BaseEntity, R extends IBaseRepository<T>> implements IBaseService<T> {
 
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Matches hibernate.default_batch_fetch_size, so the lazy associations of
+    // one streamed chunk are initialized together
+    private static final int STREAM_CHUNK_SIZE = 64;
+
+    protected static final Sort CREATION_ORDER = Sort.by("createdAt", "id");
+
     protected final R repository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     protected BaseService(R repository) {
         this.repository = repository;
     }
@@ -42,12 +62,57 @@ public abstract class BaseService<T extends BaseEntity, R extends IBaseRepositor
         return repository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(UUID id) {
+        return repository.findVersionById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<T> findAll() {
         return repository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<T> findPage(int page, int size) {
+        validatePageIndex(page);
+        validatePageSize(size);
+
+        return repository.findAll(PageRequest.of(page, size, CREATION_ORDER));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> findAfter(LocalDateTime createdAt, UUID id, int limit) {
+        validatePageSize(limit);
+        validateKeysetPosition(createdAt, id);
+
+        PageRequest firstPage = PageRequest.of(0, limit, CREATION_ORDER);
+        if (createdAt == null) {
+            return repository.findAll(firstPage).getContent();
+        }
+        return repository.findAfter(createdAt, id, firstPage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<? super T> action) {
+        try (Stream<T> entities = repository.streamAllOrdered()) {
+            List<T> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            Iterator<T> iterator = entities.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    visitAndDetach(chunk, action);
+                }
+            }
+            visitAndDetach(chunk, action);
+        }
+    }
+
     @Override
     @Transactional
     public boolean deleteById(UUID id) {
@@ -63,4 +128,33 @@ public abstract class BaseService<T extends BaseEntity, R extends IBaseRepositor
     public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
-}
\ No newline at end of file
+
+    protected void validatePageIndex(int page) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+    }
+
+    protected void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    protected void validateKeysetPosition(LocalDateTime createdAt, UUID id) {
+        if ((createdAt == null) != (id == null)) {
+            throw new IllegalArgumentException("A keyset position needs both a creation time and an ID");
+        }
+    }
+
+    protected void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
+    private void visitAndDetach(List<T> chunk, Consumer<? super T> action) {
+        chunk.forEach(action);
+        chunk.clear();
+        // Keep the persistence context bounded to one chunk while streaming
+        clearPersistenceContext();
+    }
+}
@@ -0,0 +1,20 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.cache;
+
+import java.util.List;
+
+/**
+ * Names of the read-through caches in front of the game read operations,
+ * each keyed by game ID.
+ */
+public final class GameCaches {
+
+    public static final String SUMMARIES = "gameSummaries";
+    public static final String UNDEALT_BY_SUIT = "undealtCardsBySuit";
+    public static final String UNDEALT_BY_SUIT_AND_VALUE = "undealtCardsBySuitAndValue";
+    public static final String PLAYER_SCORES = "playerScores";
+
+    public static final List<String> ALL = List.of(SUMMARIES, UNDEALT_BY_SUIT, UNDEALT_BY_SUIT_AND_VALUE, PLAYER_SCORES);
+
+    private GameCaches() {
+    }
+}
@@ -0,0 +1,97 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Caffeine cache for the game reads that does not store a value read before
+ * its key was last evicted. A read missing the cache loads the game and then
+ * stores the result; a change committing in between evicts the key before
+ * that result is stored, which would otherwise stay cached until it expires.
+ * <p>
+ * The cache remembers the last key each thread missed, and only stores a
+ * value for that key. Evictions are counted per stripe of keys, so a value is
+ * also refused when another key of its stripe was evicted meanwhile, which
+ * only costs a later read.
+ */
+public class GameReadCache extends CaffeineCache {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+    private final AtomicLong clears = new AtomicLong();
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    public GameReadCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        // Counted before the lookup, so an eviction racing with it refuses the value stored after
+        Miss miss = new Miss(key, evictions.get(stripe(key)), clears.get());
+        Object value = super.lookup(key);
+        if (value == null) {
+            lastMiss.set(miss);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Miss miss = lastMiss.get();
+        lastMiss.remove();
+        if (miss == null || !miss.key.equals(key)) {
+            return;
+        }
+
+        Object storeValue = toStoreValue(value);
+        // Checked while the entry is locked: an eviction counted after the check waits, then removes the value
+        getNativeCache().asMap().compute(key, (k, current) ->
+                evictions.get(stripe(key)) == miss.evictions && clears.get() == miss.clears ? storeValue : current);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet(stripe(key));
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.incrementAndGet(stripe(key));
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        clears.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        clears.incrementAndGet();
+        return super.invalidate();
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private static final class Miss {
+
+        private final Object key;
+        private final long evictions;
+        private final long clears;
+
+        private Miss(Object key, long evictions, long clears) {
+            this.key = key;
+            this.evictions = evictions;
+            this.clears = clears;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.concurrency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries {@link RetryOnConflict} methods on optimistic locking failures.
+ * Ordered before the transaction interceptor, so every attempt gets its own
+ * transaction and the failure surfacing at commit is seen here.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflictRetryAspect.class);
+
+    // Upper bound of the random pause before the first retry, doubled on each further attempt
+    private static final long BASE_BACKOFF_MILLIS = 4;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("Conflict in {}, attempt {} of {}", joinPoint.getSignature().toShortString(),
+                        attempt, retryOnConflict.maxAttempts());
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static void backOff(int attempt) throws InterruptedException {
+        // Random pause so the transactions that collided do not collide again
+        long bound = BASE_BACKOFF_MILLIS << Math.min(attempt - 1, 6);
+        Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+}
@@ -0,0 +1,103 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks serializing the transactions of this instance that change
+ * the same game. A lock is taken before the game is loaded and held until
+ * the transaction completes, so the next transaction on that game reads its
+ * committed state instead of conflicting with it. Games on different stripes
+ * proceed in parallel.
+ * <p>
+ * Versioned entities still catch conflicts with other instances, which are
+ * retried by {@link RetryOnConflict}.
+ */
+@Component
+public class GameLocks {
+
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+
+    public GameLocks(@Value("${card-game.concurrency.game-locks.enabled:true}") boolean enabled,
+                     @Value("${card-game.concurrency.game-locks.stripes:256}") int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Lock stripes must be greater than zero");
+        }
+
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Locks a game until the current transaction commits or rolls back.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void lockUntilCompletion(UUID gameId) {
+        if (!enabled) {
+            return;
+        }
+        requireTransaction();
+
+        ReentrantLock lock = stripeOf(gameId);
+        lock.lock();
+        unlockOnCompletion(lock);
+    }
+
+    /**
+     * Locks a game until the current transaction completes, unless another
+     * transaction holds it. For transactions already holding the lock of
+     * another game, which could deadlock waiting for this one.
+     *
+     * @return whether the game is locked
+     * @throws IllegalStateException if no transaction is active
+     */
+    public boolean tryLockUntilCompletion(UUID gameId) {
+        if (!enabled) {
+            return true;
+        }
+        requireTransaction();
+
+        ReentrantLock lock = stripeOf(gameId);
+        if (!lock.tryLock()) {
+            return false;
+        }
+        unlockOnCompletion(lock);
+        return true;
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Game locks are held until a transaction completes, none is active");
+        }
+    }
+
+    private static void unlockOnCompletion(ReentrantLock lock) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock stripeOf(UUID gameId) {
+        // Spread the hash so neighbouring ids do not share a stripe
+        int hash = gameId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -0,0 +1,22 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a transactional service method again when it loses an optimistic
+ * locking race, i.e. another transaction changed one of the versioned
+ * entities it wrote in the meantime. Each attempt runs in a new transaction
+ * and sees the other transaction's changes.
+ * <p>
+ * Only applies when the method starts the transaction. A call that joins an
+ * outer transaction cannot be retried on its own.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    int maxAttempts() default 5;
+}
@@ -0,0 +1,483 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.engine;
+
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.GameLocks;
+import com.cardgamedeck.card_game_deck_api.application.impl.log.GameLog;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Keeps the shoe and hands of active games in memory, so dealing, shuffling
+ * and scoring a hot game do not go through the database. Each game is a
+ * detached {@link Game} aggregate guarded by its own lock, which is never
+ * held while waiting for the database: a write-back copies a snapshot taken
+ * under the lock.
+ * <p>
+ * Changed games are written back asynchronously, in batches of
+ * {@code flush-batch-size} games per transaction. A game is also written back
+ * before it is evicted, either because it was idle for {@code idle-timeout-ms}
+ * or because a transaction is about to change it through the database, and
+ * every game still in memory is written back on shutdown.
+ * <p>
+ * Games are loaded and evicted under their {@link GameLocks game lock}, like
+ * any transaction changing them through the database, so a game is never
+ * loaded half way through such a transaction. An eviction joins the
+ * transaction it runs in, and the game stays in memory, closed to changes,
+ * until that transaction completes: it is dropped if it commits and kept if
+ * it rolls back.
+ * <p>
+ * Reads that go to the database (listings, player endpoints) may lag a hot
+ * game by up to one flush interval. Log entries recorded in memory are saved
+ * with the game, and kept until that write-back commits.
+ */
+@Component
+public class HotGameStore {
+
+    private static final Logger log = LoggerFactory.getLogger(HotGameStore.class);
+
+    // Longest an eviction waits for a write-back of the same game already under way
+    private static final long WRITE_BACK_WAIT_MILLIS = 2000;
+
+    private final IGameRepository gameRepository;
+    private final GameLog gameLog;
+    private final GameLocks gameLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int flushBatchSize;
+    private final long idleTimeoutMillis;
+
+    private final Map<UUID, HotGame> games = new ConcurrentHashMap<>();
+
+    public HotGameStore(IGameRepository gameRepository,
+                        GameLog gameLog,
+                        GameLocks gameLocks,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${card-game.engine.hot-games.enabled:false}") boolean enabled,
+                        @Value("${card-game.engine.hot-games.flush-batch-size:50}") int flushBatchSize,
+                        @Value("${card-game.engine.hot-games.idle-timeout-ms:300000}") long idleTimeoutMillis) {
+        if (enabled && !gameLocks.isEnabled()) {
+            throw new IllegalStateException("Hot games are loaded and evicted under game locks, which are disabled");
+        }
+
+        this.gameRepository = gameRepository;
+        this.gameLog = gameLog;
+        this.gameLocks = gameLocks;
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+
+        // Joins the caller's transaction, if any, so no thread holds two connections
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Applies a change to a game, loading it into memory first if needed.
+     * The game is written back by a later flush. Waits while the game is
+     * being evicted. Must not be called in a transaction, which a loaded game
+     * would stay attached to and which would hold back the events published
+     * by the change until after the game is unlocked.
+     *
+     * @throws EntityNotFoundException if the game does not exist
+     * @throws IllegalStateException if a transaction is active
+     */
+    public <T> T update(UUID gameId, Function<Game, T> operation) {
+        return apply(gameId, operation, true);
+    }
+
+    /**
+     * Reads from a game, loading it into memory first if needed. The result
+     * must not keep references to mutable parts of the game. Must not be
+     * called in a transaction, like {@link #update}.
+     *
+     * @throws EntityNotFoundException if the game does not exist
+     */
+    public <T> T read(UUID gameId, Function<Game, T> query) {
+        return apply(gameId, query, false);
+    }
+
+    /**
+     * Reads from a game only if it is already in memory.
+     */
+    public <T> Optional<T> readIfHot(UUID gameId, Function<Game, T> query) {
+        HotGame hot = games.get(gameId);
+        if (hot == null) {
+            return Optional.empty();
+        }
+
+        hot.lock.lock();
+        try {
+            if (hot.evicted || hot.game == null) {
+                return Optional.empty();
+            }
+            return Optional.of(query.apply(hot.game));
+        } finally {
+            hot.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a game back if it changed and drops it from memory, so it can be
+     * changed through the database. Runs in the current transaction, or in
+     * one of its own, and locks the game until it completes.
+     *
+     * @throws OptimisticLockingFailureException if a flush writing the game back does not finish in time
+     */
+    public void evict(UUID gameId) {
+        if (!games.containsKey(gameId)) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            gameLocks.lockUntilCompletion(gameId);
+            HotGame hot = games.get(gameId);
+            if (hot != null) {
+                evict(hot);
+            }
+        });
+    }
+
+    /**
+     * Evicts every game a player is seated in, in the current transaction, so
+     * the player can be changed through the database. Does nothing while the
+     * engine is off.
+     *
+     * @throws OptimisticLockingFailureException if another transaction holds one of the games
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void evictGamesOf(UUID playerId) {
+        if (!enabled) {
+            return;
+        }
+
+        for (UUID gameId : gameRepository.findIdsByPlayerId(playerId)) {
+            // Never wait for a game here, the caller may hold the lock of another
+            if (!gameLocks.tryLockUntilCompletion(gameId)) {
+                throw new OptimisticLockingFailureException("Game " + gameId + " is being changed");
+            }
+            HotGame hot = games.get(gameId);
+            if (hot != null) {
+                evict(hot);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${card-game.engine.hot-games.flush-interval-ms:200}")
+    public void flushDirtyGames() {
+        List<HotGame> batch = new ArrayList<>(flushBatchSize);
+        for (HotGame hot : games.values()) {
+            if (hot.isDirty()) {
+                batch.add(hot);
+            }
+            if (batch.size() == flushBatchSize) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+        flush(batch);
+    }
+
+    @Scheduled(fixedDelayString = "${card-game.engine.hot-games.eviction-interval-ms:10000}")
+    public void evictIdleGames() {
+        long idleSince = System.currentTimeMillis() - idleTimeoutMillis;
+        for (HotGame hot : games.values()) {
+            if (hot.lastAccess < idleSince) {
+                tryEvict(hot.gameId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!games.isEmpty()) {
+            log.info("Writing back {} hot games before shutdown", games.size());
+            games.keySet().forEach(this::tryEvict);
+        }
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    private <T> T apply(UUID gameId, Function<Game, T> operation, boolean changes) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Hot games are served outside any transaction");
+        }
+
+        while (true) {
+            HotGame hot = games.computeIfAbsent(gameId, HotGame::new);
+            if (hot.game == null) {
+                load(hot);
+            }
+
+            hot.lock.lock();
+            try {
+                // A change waits for an eviction under way, which drops the game if it commits
+                while (changes && hot.evicting) {
+                    hot.released.awaitUninterruptibly();
+                }
+                if (hot.evicted || hot.game == null) {
+                    continue; // Lost a race with an eviction, start over with a fresh entry
+                }
+
+                T result = operation.apply(hot.game);
+                if (changes) {
+                    hot.changes++;
+                }
+                hot.lastAccess = System.currentTimeMillis();
+                return result;
+            } finally {
+                hot.lock.unlock();
+            }
+        }
+    }
+
+    // Loads a game under its game lock, holding only the loading lock of the entry meanwhile
+    private void load(HotGame hot) {
+        hot.loading.lock();
+        try {
+            if (hot.game != null || hot.evicted) {
+                return;
+            }
+
+            Optional<Game> loaded = transactionTemplate.execute(status -> {
+                gameLocks.lockUntilCompletion(hot.gameId);
+                return gameRepository.findWithDeckAndPlayersById(hot.gameId)
+                        .map(game -> {
+                            // Initialize everything the engine touches before the game is detached
+                            game.getGameDeck().getCards();
+                            game.getGameDeck().getShuffles();
+                            game.getPlayers().forEach(Player::getCards);
+                            return game;
+                        });
+            });
+
+            hot.lock.lock();
+            try {
+                if (hot.evicted) {
+                    return; // Evicted while loading, by a transaction that may have changed it since
+                }
+                if (loaded == null || loaded.isEmpty()) {
+                    drop(hot);
+                    throw new EntityNotFoundException("Game not found with ID: " + hot.gameId);
+                }
+                hot.game = loaded.get();
+            } finally {
+                hot.lock.unlock();
+            }
+        } finally {
+            hot.loading.unlock();
+        }
+    }
+
+    private void flush(List<HotGame> batch) {
+        // Snapshot each game under its lock, then write them all back holding none
+        List<WriteBack> writes = new ArrayList<>(batch.size());
+        for (HotGame hot : batch) {
+            hot.lock.lock();
+            try {
+                if (hot.isDirty() && !hot.writing && !hot.evicting && !hot.evicted) {
+                    hot.writing = true;
+                    writes.add(new WriteBack(hot, hot.game.snapshot(), hot.changes));
+                }
+            } finally {
+                hot.lock.unlock();
+            }
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        boolean committed = false;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    writes.forEach(write -> write.logLength = writeBack(write.snapshot)));
+            committed = true;
+        } catch (RuntimeException e) {
+            // The games stay dirty, so the next flush retries them, log entries included
+            log.warn("Writing back {} hot games failed, will retry", writes.size(), e);
+        } finally {
+            for (WriteBack write : writes) {
+                writeBackCompleted(write, committed);
+            }
+        }
+    }
+
+    // Copies a snapshot of a game onto the stored game, in the current transaction
+    private Long writeBack(Game snapshot) {
+        // Copy onto freshly loaded entities rather than merging the detached game, whose
+        // collection snapshots still describe the rows as they were when it was loaded
+        Optional<Game> managed = gameRepository.findWithDeckAndPlayersById(snapshot.getId());
+        if (managed.isEmpty()) {
+            return null;
+        }
+
+        Game game = managed.get();
+        game.copyStateFrom(snapshot);
+        Long logLength = gameLog.append(game);
+        if (logLength != null) {
+            // Saved, so changes the transaction goes on to make are logged after them
+            game.logSaved(logLength);
+        }
+        return logLength;
+    }
+
+    private void writeBackCompleted(WriteBack write, boolean committed) {
+        HotGame hot = write.hot;
+        hot.lock.lock();
+        try {
+            hot.writing = false;
+            if (committed) {
+                hot.savedChanges = write.changes;
+                // Drop the log entries the write-back saved, keeping those recorded since
+                if (!gameLog.isEnabled()) {
+                    hot.game.discardLog();
+                } else if (write.logLength != null) {
+                    hot.game.logSaved(write.logLength);
+                }
+            }
+            hot.released.signalAll();
+        } finally {
+            hot.lock.unlock();
+        }
+    }
+
+    // In a transaction holding the game lock
+    private void evict(HotGame hot) {
+        Game snapshot;
+        hot.lock.lock();
+        try {
+            awaitWriteBack(hot);
+            if (hot.evicted || hot.evicting) {
+                return;
+            }
+            if (hot.game == null) {
+                // Being loaded from before this transaction, the loader will start over
+                drop(hot);
+                return;
+            }
+            hot.evicting = true;
+            snapshot = hot.isDirty() ? hot.game.snapshot() : null;
+        } finally {
+            hot.lock.unlock();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictionCompleted(hot, status == STATUS_COMMITTED);
+            }
+        });
+        if (snapshot != null) {
+            writeBack(snapshot);
+        }
+    }
+
+    private void awaitWriteBack(HotGame hot) {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(WRITE_BACK_WAIT_MILLIS);
+        while (hot.writing) {
+            if (remaining <= 0) {
+                // The flush may be waiting for rows this transaction changed, give way to it
+                throw new OptimisticLockingFailureException("Game " + hot.gameId + " is being written back");
+            }
+            try {
+                remaining = hot.released.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while evicting game " + hot.gameId, e);
+            }
+        }
+    }
+
+    private void evictionCompleted(HotGame hot, boolean committed) {
+        hot.lock.lock();
+        try {
+            hot.evicting = false;
+            if (committed) {
+                drop(hot);
+            }
+            hot.released.signalAll();
+        } finally {
+            hot.lock.unlock();
+        }
+    }
+
+    private void drop(HotGame hot) {
+        hot.evicted = true;
+        games.remove(hot.gameId, hot);
+    }
+
+    // Evicts a game outside any request, keeping it in memory if it cannot be written back
+    private void tryEvict(UUID gameId) {
+        try {
+            evict(gameId);
+        } catch (RuntimeException e) {
+            log.warn("Evicting hot game {} failed, will retry", gameId, e);
+        }
+    }
+
+    private static final class HotGame {
+        private final UUID gameId;
+        private final ReentrantLock lock = new ReentrantLock();
+        // Signalled when a write-back or an eviction completes
+        private final Condition released = lock.newCondition();
+        // Held while loading, which waits for the game lock, so the entry lock is not held meanwhile
+        private final ReentrantLock loading = new ReentrantLock();
+        private volatile Game game;
+        // Changes applied so far, and how many of them the last committed write-back saved
+        private volatile long changes;
+        private volatile long savedChanges;
+        private boolean writing;
+        private boolean evicting;
+        private volatile boolean evicted;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private HotGame(UUID gameId) {
+            this.gameId = gameId;
+        }
+
+        private boolean isDirty() {
+            return changes != savedChanges;
+        }
+    }
+
+    private static final class WriteBack {
+        private final HotGame hot;
+        private final Game snapshot;
+        private final long changes;
+        private Long logLength;
+
+        private WriteBack(HotGame hot, Game snapshot, long changes) {
+            this.hot = hot;
+            this.snapshot = snapshot;
+            this.changes = changes;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.event;
+
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChange;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChangedEvent;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummarySnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Hands the changes made to a game to the listeners subscribed to it, once
+ * the transaction making them commits, or right away outside a transaction.
+ * A game nobody listens to costs one map lookup per change: its state is
+ * only copied for the listeners.
+ * <p>
+ * The listeners of a game see its changes in order, because every change is
+ * delivered before the game is unlocked. A transaction delivers after commit
+ * and its game lock is only released after that, and a game in memory is
+ * changed outside any transaction, so its changes are delivered under the
+ * lock of the in-memory copy. Listeners are called on the changing thread
+ * and must hand the event off instead of blocking.
+ */
+@Component
+public class GameEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(GameEventHub.class);
+
+    private final ConcurrentMap<UUID, Set<Consumer<GameChangedEvent>>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * @return Cancels the subscription
+     */
+    public Runnable subscribe(UUID gameId, Consumer<GameChangedEvent> listener) {
+        listeners.compute(gameId, (id, gameListeners) -> {
+            Set<Consumer<GameChangedEvent>> subscribed = gameListeners != null ? gameListeners : ConcurrentHashMap.newKeySet();
+            subscribed.add(listener);
+            return subscribed;
+        });
+
+        return () -> listeners.computeIfPresent(gameId, (id, gameListeners) -> {
+            gameListeners.remove(listener);
+            return gameListeners.isEmpty() ? null : gameListeners;
+        });
+    }
+
+    public boolean hasSubscribers(UUID gameId) {
+        return listeners.containsKey(gameId);
+    }
+
+    /**
+     * @param game The game after the change, or null if it was deleted
+     */
+    public void publish(UUID gameId, GameChange change, Game game) {
+        if (!hasSubscribers(gameId)) {
+            return;
+        }
+
+        GameChangedEvent event = new GameChangedEvent(gameId, change,
+                game != null ? new GameSummarySnapshot(game) : null,
+                game != null && change.changesScores() ? scoresOf(game) : null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(event);
+                }
+            });
+        } else {
+            deliver(event);
+        }
+    }
+
+    private List<Player> scoresOf(Game game) {
+        return game.getPlayersWithTotalValue().stream()
+                .map(Player::snapshot)
+                .collect(Collectors.toList());
+    }
+
+    private void deliver(GameChangedEvent event) {
+        Set<Consumer<GameChangedEvent>> gameListeners = listeners.get(event.getGameId());
+        if (gameListeners == null) {
+            return;
+        }
+
+        for (Consumer<GameChangedEvent> listener : gameListeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                // One failing listener must neither fail the committed change nor starve the others
+                log.warn("Listener of game {} failed on {}", event.getGameId(), event.getChange(), e);
+            }
+        }
+    }
+}
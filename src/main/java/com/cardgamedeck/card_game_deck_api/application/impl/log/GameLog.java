@@ -0,0 +1,123 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.log;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameReplay;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameSnapshot;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameLogRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameSnapshotRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Saves the log entries games record as they change, alongside the games
+ * themselves, and rebuilds games from them.
+ * <p>
+ * A snapshot is saved whenever the log crosses a multiple of
+ * {@code snapshot-interval} entries, so a replay applies at most about that
+ * many entries. A log started over, for a game stored before the log was kept
+ * or while it was turned off, begins with a snapshot of the game after the
+ * change that started it.
+ * <p>
+ * The log is off unless {@code card-game.log.enabled} is set. While it is off
+ * nothing is saved, and games stop keeping their log until it is turned on.
+ */
+@Component
+public class GameLog {
+
+    private final IGameLogRepository logRepository;
+    private final IGameSnapshotRepository snapshotRepository;
+    private final boolean enabled;
+    private final int snapshotInterval;
+
+    public GameLog(IGameLogRepository logRepository,
+                   IGameSnapshotRepository snapshotRepository,
+                   @Value("${card-game.log.enabled:false}") boolean enabled,
+                   @Value("${card-game.log.snapshot-interval:100}") int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("The snapshot interval must be at least 1");
+        }
+        this.logRepository = logRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.enabled = enabled;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Saves the entries a game recorded since it was last saved, and a
+     * snapshot when one is due. Must run in the transaction saving the game,
+     * which it flushes first.
+     *
+     * @return the length of the log once saved, or null if the log is off
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the game was changed since it was loaded
+     */
+    public Long append(Game game) {
+        if (!enabled) {
+            game.discardLog();
+            return null;
+        }
+
+        List<GameLogEntry> entries = game.getUnsavedLog();
+        if (entries.isEmpty()) {
+            return game.getLogLength();
+        }
+
+        long first = entries.get(0).getSequence();
+        long length = game.getLogLength();
+
+        // Sequence numbers are taken from the game as it was loaded. Update the versioned
+        // game first, so that a game another instance logged changes to meanwhile fails
+        // its version check, which is retried, instead of colliding on those numbers.
+        logRepository.flush();
+
+        if (game.isLogRestarted()) {
+            // Whatever was logged before no longer leads to the current state
+            logRepository.deleteByGameId(game.getId());
+            snapshotRepository.deleteByGameId(game.getId());
+        }
+
+        logRepository.saveAll(entries);
+
+        if (game.isLogRestarted() || first / snapshotInterval != length / snapshotInterval) {
+            snapshotRepository.save(GameSnapshot.of(game));
+        }
+        return length;
+    }
+
+    /**
+     * Rebuilds a game from its latest snapshot and the entries that follow it.
+     *
+     * @throws IllegalStateException if entries are missing from the log
+     */
+    public GameReplay replay(UUID gameId) {
+        GameReplay replay = GameReplay.startingFrom(snapshotRepository.findFirstByGameIdOrderBySequenceDesc(gameId)
+                .orElse(null));
+        logRepository.findEntriesFrom(gameId, replay.getSequence(), Pageable.unpaged()).forEach(replay::apply);
+        return replay;
+    }
+
+    /**
+     * Up to {@code limit} entries of a game from a sequence number on, in order.
+     */
+    public List<GameLogEntry> findEntries(UUID gameId, long from, int limit) {
+        return logRepository.findEntriesFrom(gameId, from, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Deletes the log and snapshots of a game.
+     */
+    public void delete(UUID gameId) {
+        logRepository.deleteByGameId(gameId);
+        snapshotRepository.deleteByGameId(gameId);
+    }
+}
@@ -0,0 +1,58 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.metrics;
+
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game level meters: cards dealt, shuffle duration and the size of the shoes
+ * being played. Deliberately not tagged by game, since every game would become
+ * its own time series; hot games show up through the operation timers instead.
+ */
+@Component
+public class GameMetrics {
+
+    private final Counter cardsDealt;
+    private final Timer shuffleDuration;
+    private final DistributionSummary shoeSize;
+
+    public GameMetrics(MeterRegistry registry, HotGameStore hotGames) {
+        this.cardsDealt = Counter.builder("cardgame.cards.dealt")
+                .description("Cards dealt to players")
+                .baseUnit("cards")
+                .register(registry);
+        this.shuffleDuration = Timer.builder("cardgame.shuffle.duration")
+                .description("Time spent shuffling a shoe, without persisting it")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.shoeSize = DistributionSummary.builder("cardgame.shoe.size")
+                .description("Cards in the shoe of a game being dealt from or shuffled")
+                .baseUnit("cards")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(52.0)
+                .maximumExpectedValue(52.0 * 16)
+                .register(registry);
+
+        Gauge.builder("cardgame.engine.hot.games", hotGames, HotGameStore::size)
+                .description("Games currently held in memory by the hot game engine")
+                .register(registry);
+    }
+
+    public void recordDeal(Game game, int cardCount) {
+        cardsDealt.increment(cardCount);
+        shoeSize.record(game.getGameDeck().getCardCount());
+    }
+
+    public void recordShuffle(Game game, long durationNanos) {
+        shuffleDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        shoeSize.record(game.getGameDeck().getCardCount());
+    }
+}
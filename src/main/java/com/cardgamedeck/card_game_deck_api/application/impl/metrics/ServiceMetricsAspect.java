@@ -0,0 +1,50 @@
+package com.cardgamedeck.card_game_deck_api.application.impl.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public operation of the application services, tagged by service,
+ * operation and outcome. Ordered outside the cache, conflict retries and
+ * transactions, so a timing covers cache hits, all attempts and the commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
+public class ServiceMetricsAspect {
+
+    static final String OPERATION_TIMER = "cardgame.service.operation";
+
+    private final MeterRegistry registry;
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.cardgamedeck.card_game_deck_api.application.impl..*(..))"
+            + " && @target(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                    .description("Duration of application service operations")
+                    .tag("service", joinPoint.getTarget().getClass().getSimpleName())
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+}
@@ -1,34 +1,70 @@
 package com.cardgamedeck.card_game_deck_api.domain.model;
 
-import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.*;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
-import jakarta.persistence.Table;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
 
-@Entity
-@Table(name = "cards")
-public class Card extends BaseEntity {
+/**
+ * An immutable playing card from the shared 52-card catalogue.
+ * There is exactly one instance per (suit, value); decks, game decks and
+ * hands all reference these instances and persist them by ordinal.
+ */
+public final class Card implements Serializable {
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "suit", nullable = false)
-    private Suit suit;
+    @Serial
+    private static final long serialVersionUID = 1L;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "value", nullable = false)
-    private Value value;
+    public static final int CATALOGUE_SIZE = Suit.values().length * Value.values().length;
 
-    // Required by JPA
-    protected Card() {
+    private static final Card[] CATALOGUE = new Card[CATALOGUE_SIZE];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Value value : Value.values()) {
+                Card card = new Card(suit, value);
+                CATALOGUE[card.ordinal] = card;
+            }
+        }
     }
 
-    public Card(Suit suit, Value value) {
-        super();
+    private static final List<Card> CATALOGUE_VIEW = List.of(CATALOGUE);
+
+    private final Suit suit;
+    private final Value value;
+    private final int ordinal;
+    private final UUID id;
+
+    private Card(Suit suit, Value value) {
         this.suit = suit;
         this.value = value;
+        this.ordinal = suit.ordinal() * Value.values().length + value.ordinal();
+        this.id = UUID.nameUUIDFromBytes((suit + "-" + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Card of(Suit suit, Value value) {
+        return CATALOGUE[suit.ordinal() * Value.values().length + value.ordinal()];
+    }
+
+    public static Card fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= CATALOGUE_SIZE) {
+            throw new IllegalArgumentException("Invalid card ordinal: " + ordinal);
+        }
+        return CATALOGUE[ordinal];
+    }
+
+    /**
+     * Returns the full catalogue, ordered by suit then value.
+     */
+    public static List<Card> catalogue() {
+        return CATALOGUE_VIEW;
+    }
+
+    public UUID getId() {
+        return id;
     }
 
     public Suit getSuit() {
@@ -39,10 +75,31 @@ public class Card extends BaseEntity {
         return value;
     }
 
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public int getFaceValue() {
         return value.getFaceValue();
     }
 
+    @Serial
+    private Object readResolve() {
+        return CATALOGUE[ordinal];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Card)) return false;
+        return ordinal == ((Card) o).ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return value + " of " + suit;
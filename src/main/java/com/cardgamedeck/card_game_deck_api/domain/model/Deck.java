@@ -1,15 +1,16 @@
 package com.cardgamedeck.card_game_deck_api.domain.model;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
-import com.cardgamedeck.card_game_deck_api.domain.model.enums.*;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CardConverter;
 
-import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
 import lombok.Getter;
 
@@ -24,12 +25,11 @@ public class Deck extends BaseEntity {
     @Column(name = "name")
     private String name;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
-    @JoinTable(
-            name = "deck_cards",
-            joinColumns = @JoinColumn(name = "deck_id"),
-            inverseJoinColumns = @JoinColumn(name = "card_id")
-    )
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "deck_cards", joinColumns = @JoinColumn(name = "deck_id"))
+    @Column(name = "card_ordinal", nullable = false)
+    @Convert(converter = CardConverter.class)
+    @OrderColumn(name = "position")
     private List<Card> cards = new ArrayList<>();
 
     // Required by JPA
@@ -44,11 +44,7 @@ public class Deck extends BaseEntity {
 
     public void initialize() {
         cards.clear();
-        for (Suit suit : Suit.values()) {
-            for (Value value : Value.values()) {
-                cards.add(new Card(suit, value));
-            }
-        }
+        cards.addAll(Card.catalogue());
     }
 
     public List<Card> getCards() {
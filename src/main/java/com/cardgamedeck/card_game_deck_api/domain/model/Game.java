@@ -2,6 +2,7 @@ package com.cardgamedeck.card_game_deck_api.domain.model;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.*;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -12,14 +13,18 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Entity
@@ -32,11 +37,11 @@ public class Game extends BaseEntity {
     private String name;
 
     @Getter
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "game_deck_id")
     private GameDeck gameDeck;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "game_players",
             joinColumns = @JoinColumn(name = "game_id"),
@@ -44,6 +49,23 @@ public class Game extends BaseEntity {
     )
     private Set<Player> players = new HashSet<>();
 
+    // Built from the players' stored totals on first use
+    @Transient
+    private Leaderboard leaderboard;
+
+    // Entries in the game log, including unsaved ones. Null for games stored
+    // before the log existed, or while it was not kept, until their next change.
+    @Column(name = "log_length")
+    private Long logLength;
+
+    // Changes recorded since the log was last saved
+    @Transient
+    private List<GameLogEntry> unsavedLog = new ArrayList<>();
+
+    // The log was started over at the last change and needs a snapshot to replay from
+    @Transient
+    private boolean logRestarted;
+
     // Required by JPA
     protected Game() {
         this.gameDeck = new GameDeck(null);
@@ -53,21 +75,61 @@ public class Game extends BaseEntity {
         super();
         this.name = name;
         this.gameDeck = new GameDeck(null);
+        this.logLength = 0L;
+    }
+
+    private Game(Game source) {
+        super(source);
+        this.name = source.name;
+        this.gameDeck = source.gameDeck.snapshot();
+        source.players.forEach(player -> players.add(player.snapshot()));
+        this.logLength = source.logLength;
+        this.unsavedLog = new ArrayList<>(source.unsavedLog);
+        this.logRestarted = source.logRestarted;
+    }
+
+    /**
+     * A detached copy of the game, its shoe, the hands of its players and its
+     * unsaved log, safe to read while the original keeps changing. Snapshots
+     * are never persisted.
+     */
+    public Game snapshot() {
+        return new Game(this);
     }
 
     public void addDeck(Deck deck) {
         gameDeck.addDeck(deck);
+        log(GameLogEntry.decksAdded(deck.getCards()));
+    }
+
+    public void addStandardDecks(int deckCount) {
+        gameDeck.addStandardDecks(deckCount);
+
+        List<Card> added = new ArrayList<>(deckCount * Card.CATALOGUE_SIZE);
+        for (int i = 0; i < deckCount; i++) {
+            added.addAll(Card.catalogue());
+        }
+        log(GameLogEntry.decksAdded(added));
     }
 
     public void addPlayer(Player player) {
-        players.add(player);
+        if (players.add(player)) {
+            if (leaderboard != null) {
+                leaderboard.add(player);
+            }
+            log(GameLogEntry.playerJoined(player.getId(), player.getCards()));
+        }
     }
 
     public void removePlayer(Player player) {
         if (players.remove(player)) {
-            Set<Card> playerCards = player.getCards();
+            List<Card> playerCards = player.getCards();
             gameDeck.returnCards(playerCards);
+            log(GameLogEntry.playerLeft(player.getId(), playerCards));
             player.removeAllCards();
+            if (leaderboard != null) {
+                leaderboard.remove(player);
+            }
         }
     }
 
@@ -76,18 +138,64 @@ public class Game extends BaseEntity {
             throw new IllegalArgumentException("Player is not in this game");
         }
 
+        List<Card> dealt = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             Card card = gameDeck.dealCard();
             if (card != null) {
                 player.addCard(card);
+                dealt.add(card);
             } else {
                 break; // No more cards to deal
             }
         }
+        if (!dealt.isEmpty()) {
+            log(GameLogEntry.dealt(player.getId(), dealt));
+        }
+        if (leaderboard != null) {
+            leaderboard.update(player);
+        }
+    }
+
+    public void dealRound(List<Player> tablePlayers, int count) {
+        for (Player player : tablePlayers) {
+            if (!players.contains(player)) {
+                throw new IllegalArgumentException("Player is not in this game");
+            }
+        }
+
+        dealRoundRobin(tablePlayers, count);
+        if (leaderboard != null) {
+            leaderboard.update(tablePlayers);
+        }
+    }
+
+    private void dealRoundRobin(List<Player> tablePlayers, int count) {
+        Map<Player, List<Card>> dealt = new LinkedHashMap<>();
+        tablePlayers.forEach(player -> dealt.put(player, new ArrayList<>(count)));
+
+        // Deal one card at a time to each player in table order
+        deal:
+        for (int round = 0; round < count; round++) {
+            for (Player player : tablePlayers) {
+                Card card = gameDeck.dealCard();
+                if (card == null) {
+                    break deal; // No more cards to deal
+                }
+                player.addCard(card);
+                dealt.get(player).add(card);
+            }
+        }
+
+        dealt.forEach((player, cards) -> {
+            if (!cards.isEmpty()) {
+                log(GameLogEntry.dealt(player.getId(), cards));
+            }
+        });
     }
 
     public void shuffleGameDeck() {
-        gameDeck.shuffle();
+        Long seed = gameDeck.shuffle();
+        log(GameLogEntry.shuffled(seed, seed == null ? gameDeck.getUndealtCards() : List.of()));
     }
 
     public Map<Suit, Integer> getUndealtCardsBySuit() {
@@ -99,13 +207,94 @@ public class Game extends BaseEntity {
     }
 
     public List<Player> getPlayersWithTotalValue() {
-        return players.stream()
-                .sorted(Comparator.comparingInt(Player::getTotalValue).reversed())
-                .collect(Collectors.toList());
+        if (leaderboard == null) {
+            leaderboard = new Leaderboard(players);
+        }
+        return leaderboard.ranking();
     }
 
     public Set<Player> getPlayers() {
         return new HashSet<>(players);
     }
 
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    /**
+     * The number of entries in the game log, or null if the log is not kept
+     * for this game.
+     */
+    public Long getLogLength() {
+        return logLength;
+    }
+
+    /**
+     * Whether the log was started over by the changes not saved yet, in which
+     * case the entries saved before them no longer apply.
+     */
+    public boolean isLogRestarted() {
+        return logRestarted;
+    }
+
+    /**
+     * The log entries recorded and not saved yet, in order.
+     */
+    public List<GameLogEntry> getUnsavedLog() {
+        return new ArrayList<>(unsavedLog);
+    }
+
+    /**
+     * Marks the log up to {@code logLength} as saved.
+     */
+    public void logSaved(long logLength) {
+        unsavedLog.removeIf(entry -> entry.getSequence() < logLength);
+        logRestarted = false;
+    }
+
+    /**
+     * Drops the unsaved entries and stops keeping the log, which is started
+     * over at the next change.
+     */
+    public void discardLog() {
+        unsavedLog.clear();
+        logRestarted = false;
+        logLength = null;
+    }
+
+    /**
+     * Brings this game in line with another copy of the same game: the shoe
+     * and the hands of the players seated in both, and the log entries the
+     * copy recorded.
+     */
+    public void copyStateFrom(Game source) {
+        gameDeck.copyStateFrom(source.gameDeck);
+
+        Map<UUID, Player> sourcePlayers = source.players.stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        for (Player player : players) {
+            Player sourcePlayer = sourcePlayers.get(player.getId());
+            if (sourcePlayer != null) {
+                player.copyHandFrom(sourcePlayer);
+            }
+        }
+        leaderboard = null;
+
+        unsavedLog = new ArrayList<>(source.unsavedLog);
+        logRestarted = source.logRestarted;
+        logLength = source.logLength;
+
+        setUpdatedAt(source.getUpdatedAt());
+    }
+
+    private void log(GameLogEntry entry) {
+        if (logLength == null) {
+            // Start the log over from the state after this change
+            logLength = 0L;
+            logRestarted = true;
+        }
+        entry.assign(getId(), logLength++);
+        unsavedLog.add(entry);
+    }
+
 }
@@ -1,37 +1,108 @@
 package com.cardgamedeck.card_game_deck_api.domain.model;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CardConverter;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.*;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategies;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategy;
 
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.Formula;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * The shoe of a game. Cards are kept in draw order and split by a cursor:
+ * positions before {@code drawCursor} have been dealt, positions from the
+ * cursor onwards are still in the shoe. Dealing only advances the cursor.
+ * <p>
+ * The draw order is persisted either as one {@code game_deck_cards} row per
+ * card or, when {@link CompactCardState} is enabled, as a single
+ * {@code card_order} byte array. A shoe stored in one layout is moved to the
+ * active one the first time its cards are accessed.
+ * <p>
+ * The shoe size is also kept in {@code card_count}, so summaries can compute
+ * the undealt count from columns without reading the cards. Likewise the
+ * undealt copies of each catalogue card are counted in {@code undealt_counts},
+ * kept in step on every deal, return and added deck, so the undealt counts
+ * by suit and by card never read the cards either.
+ * <p>
+ * Shuffles go through the configured {@link ShuffleStrategy}. As long as
+ * every shuffle was replayable and no cards were returned, the draw order can
+ * be rebuilt from the number of decks and the recorded shuffle seeds alone.
+ */
 @Entity
 @Table(name = "game_decks")
 public class GameDeck extends BaseEntity {
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(
-            name = "game_deck_cards",
-            joinColumns = @JoinColumn(name = "game_deck_id"),
-            inverseJoinColumns = @JoinColumn(name = "card_id")
-    )
-    private List<Card> cards = new ArrayList<>();
-
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(
-            name = "game_deck_dealt_cards",
-            joinColumns = @JoinColumn(name = "game_deck_id"),
-            inverseJoinColumns = @JoinColumn(name = "card_id")
-    )
-    private Set<Card> dealtCards = new HashSet<>();
+    // Undealt counts by card are reported by suit, then by face value from highest to lowest
+    private static final List<Card> REPORT_ORDER = Card.catalogue().stream()
+            .sorted(Comparator.comparing((Card card) -> List.of(Suit.HEARTS, Suit.SPADES, Suit.CLUBS, Suit.DIAMONDS).indexOf(card.getSuit()))
+                    .thenComparing(Card::getFaceValue, Comparator.reverseOrder()))
+            .toList();
+
+    private static final String[] REPORT_KEYS = new String[Card.CATALOGUE_SIZE];
+
+    static {
+        for (Card card : Card.catalogue()) {
+            REPORT_KEYS[card.getOrdinal()] = card.getSuit() + "-" + card.getValue();
+        }
+    }
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "game_deck_cards", joinColumns = @JoinColumn(name = "game_deck_id"))
+    @Column(name = "card_ordinal", nullable = false)
+    @Convert(converter = CardConverter.class)
+    @OrderColumn(name = "position")
+    private List<Card> storedCards = new ArrayList<>();
+
+    @Column(name = "card_order", length = 65535)
+    private byte[] cardOrder;
+
+    // Defaulted, so the column can be added to a table holding shoes
+    @Column(name = "draw_cursor", nullable = false, columnDefinition = "integer default 0")
+    private int drawCursor;
+
+    // Null for shoes stored before the column existed, until their order next changes
+    @Column(name = "card_count")
+    private Integer cardCount;
+
+    // Size of a compact order, for summaries of shoes stored before card_count existed
+    @Formula("octet_length(card_order)")
+    private Integer compactCardCount;
+
+    // Undealt copies of each catalogue card, two bytes per card indexed by ordinal.
+    // Null for shoes stored before the column existed, until they are next counted.
+    @Column(name = "undealt_counts", length = 104)
+    private byte[] undealtCounts;
+
+    // Undealt cards per suit, derived from undealtCounts
+    @Transient
+    private int[] undealtBySuit;
+
+    // Seeds of the shuffles so far, in order, while the shoe is replayable
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "game_deck_shuffles", joinColumns = @JoinColumn(name = "game_deck_id"))
+    @OrderColumn(name = "position")
+    private List<ShuffleRecord> shuffles = new ArrayList<>();
+
+    // Null for shoes stored before shuffles were recorded, which cannot be replayed
+    @Column(name = "replayable")
+    private Boolean replayable;
+
+    // Draw order in memory, shared with storedCards in join table mode
+    @Transient
+    private List<Card> cards;
 
     // Required by JPA
     protected GameDeck() {
@@ -39,99 +110,319 @@ public class GameDeck extends BaseEntity {
 
     public GameDeck(List<Card> initialCards) {
         super();
+        // Only shoes built from whole decks can be rebuilt from their seeds
+        this.replayable = initialCards == null;
+        // Settle the layout of a new shoe now, so it never reads a join table it has no rows in
+        List<Card> cards = cards();
         if (initialCards != null) {
-            this.cards.addAll(initialCards);
+            cards.addAll(initialCards);
         }
+        orderChanged();
+    }
+
+    private GameDeck(GameDeck source) {
+        super(source);
+        this.cards = new ArrayList<>(source.cards());
+        this.drawCursor = source.drawCursor;
+        this.cardCount = source.cardCount;
+        this.undealtCounts = source.undealtCounts().clone();
+        this.shuffles = new ArrayList<>(source.shuffles);
+        this.replayable = source.replayable;
+    }
+
+    // A detached copy of the shoe, for a snapshot of its game
+    GameDeck snapshot() {
+        return new GameDeck(this);
     }
 
     public void addDeck(Deck deck) {
-        cards.addAll(deck.getCards());
+        List<Card> deckCards = deck.getCards();
+        deckCards.forEach(card -> countUndealt(card, 1));
+        cards().addAll(deckCards);
+        orderChanged();
+    }
+
+    /**
+     * Appends fresh standard decks, in catalogue order, without any
+     * {@link Deck} behind them.
+     */
+    public void addStandardDecks(int deckCount) {
+        List<Card> cards = cards();
+        for (int i = 0; i < deckCount; i++) {
+            for (Card card : Card.catalogue()) {
+                countUndealt(card, 1);
+                cards.add(card);
+            }
+        }
+        orderChanged();
     }
 
     public Card dealCard() {
-        for (Card card : cards) {
-            if (!dealtCards.contains(card)) {
-                dealtCards.add(card);
-                return card;
+        List<Card> cards = cards();
+        if (drawCursor >= cards.size()) {
+            return null; // No cards left to deal
+        }
+        Card card = cards.get(drawCursor);
+        countUndealt(card, -1);
+        drawCursor++;
+        return card;
+    }
+
+    public void returnCards(Collection<Card> cardsToReturn) {
+        List<Card> cards = cards();
+        // Move each returned card to the end of the dealt range and pull the cursor back over it
+        for (Card card : cardsToReturn) {
+            int index = cards.subList(0, drawCursor).lastIndexOf(card);
+            if (index < 0) {
+                continue;
             }
+            countUndealt(card, 1);
+            drawCursor--;
+            swap(cards, index, drawCursor);
+            replayable = false;
         }
-        return null; // No cards left to deal
+        orderChanged();
     }
 
-    public void returnCards(Set<Card> cardsToReturn) {
-        dealtCards.removeAll(cardsToReturn);
+    /**
+     * @return the seed replaying this shuffle from the current order, or {@code null} if it cannot be replayed
+     */
+    public Long shuffle() {
+        List<Card> cards = cards();
+        int[] ordinals = new int[cards.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = cards.get(i).getOrdinal();
+        }
+
+        // Shuffle the undealt range only, dealt cards keep their positions
+        Long seed = ShuffleStrategies.current().shuffle(ordinals, drawCursor, ordinals.length);
+
+        for (int i = drawCursor; i < ordinals.length; i++) {
+            Card card = Card.fromOrdinal(ordinals[i]);
+            // Leave cards that did not move alone, the join table rewrites one row per changed position
+            if (cards.get(i) != card) {
+                cards.set(i, card);
+            }
+        }
+
+        if (seed == null) {
+            replayable = false;
+        }
+        if (isReplayable()) {
+            shuffles.add(new ShuffleRecord(seed, drawCursor, ordinals.length));
+        }
+        orderChanged();
+        return seed;
     }
 
-    public void shuffle() {
-        // Create a copy of all cards
-        List<Card> allCards = new ArrayList<>(cards);
+    /**
+     * Rebuilds the draw order from the number of decks in the shoe and the
+     * recorded shuffle seeds, without reading the stored order.
+     *
+     * @throws IllegalStateException if the shoe is not replayable
+     */
+    public List<Card> replayOrder() {
+        if (!isReplayable()) {
+            throw new IllegalStateException("The order of this shoe cannot be replayed");
+        }
 
-        // Fisher-Yates shuffle algorithm
-        Random random = new Random();
-        for (int i = allCards.size() - 1; i > 0; i--) {
-            int j = random.nextInt(i + 1);
-            // Swap elements at indices i and j
-            Card temp = allCards.get(i);
-            allCards.set(i, allCards.get(j));
-            allCards.set(j, temp);
+        int[] ordinals = new int[getCardCount()];
+        int size = 0;
+        for (ShuffleRecord shuffle : shuffles) {
+            size = appendDecks(ordinals, size, shuffle.getCardCount());
+            ShuffleStrategy.replay(ordinals, shuffle.getFromPosition(), size, shuffle.getSeed());
         }
+        appendDecks(ordinals, size, ordinals.length);
 
-        // Replace cards with shuffled order
-        cards.clear();
-        cards.addAll(allCards);
+        List<Card> order = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            order.add(Card.fromOrdinal(ordinal));
+        }
+        return order;
+    }
 
+    public boolean isReplayable() {
+        return Boolean.TRUE.equals(replayable);
     }
 
-    public int getUndealtCount() {
-        return cards.size() - dealtCards.size();
+    public List<ShuffleRecord> getShuffles() {
+        return new ArrayList<>(shuffles);
     }
 
-    public Map<Suit, Integer> getUndealtCardsBySuit() {
-        Map<Suit, Integer> countBySuit = new HashMap<>();
-        for (Suit suit : Suit.values()) {
-            countBySuit.put(suit, 0);
+    /**
+     * Brings this shoe in line with a later copy of it, such as a detached
+     * copy changed in memory. Only the positions that differ are written and
+     * only the shuffles recorded since are added, so the join tables keep
+     * every row that did not change.
+     */
+    public void copyStateFrom(GameDeck source) {
+        List<Card> cards = cards();
+        List<Card> sourceCards = source.cards();
+        for (int i = 0; i < sourceCards.size(); i++) {
+            if (i == cards.size()) {
+                cards.add(sourceCards.get(i));
+            } else if (cards.get(i) != sourceCards.get(i)) {
+                cards.set(i, sourceCards.get(i));
+            }
         }
+        cards.subList(sourceCards.size(), cards.size()).clear();
 
-        getUndealtCards().forEach(card -> {
-            Suit suit = card.getSuit();
-            countBySuit.put(suit, countBySuit.get(suit) + 1);
-        });
+        drawCursor = source.drawCursor;
+        undealtCounts = source.undealtCounts().clone();
+        undealtBySuit = null;
 
-        return countBySuit;
+        int recorded = shuffles.size();
+        if (recorded > source.shuffles.size()) {
+            // Not a later copy after all, take its history whole
+            shuffles.clear();
+            recorded = 0;
+        }
+        shuffles.addAll(source.shuffles.subList(recorded, source.shuffles.size()));
+        replayable = source.replayable;
+        orderChanged();
     }
 
-    public Map<String, Integer> getUndealtCardsBySuitAndValue() {
-        // Define suit order
-        List<Suit> suitOrder = Arrays.asList(Suit.HEARTS, Suit.SPADES, Suit.CLUBS, Suit.DIAMONDS);
+    public int getUndealtCount() {
+        return getCardCount() - drawCursor;
+    }
+
+    public int getCardCount() {
+        return cardCount != null ? cardCount : cards().size();
+    }
 
-        // Get undealt cards
-        List<Card> undealtCards = getUndealtCards();
+    public Map<Suit, Integer> getUndealtCardsBySuit() {
+        int[] bySuit = undealtBySuit();
 
-        // Sort cards first by suit order, then by face value in descending order
-        undealtCards.sort(Comparator.comparing((Card card) -> suitOrder.indexOf(card.getSuit()))
-                .thenComparing(card -> card.getValue().getFaceValue(), Comparator.reverseOrder()));
+        Map<Suit, Integer> countBySuit = new EnumMap<>(Suit.class);
+        for (Suit suit : Suit.values()) {
+            countBySuit.put(suit, bySuit[suit.ordinal()]);
+        }
+        return countBySuit;
+    }
 
+    public Map<String, Integer> getUndealtCardsBySuitAndValue() {
+        // Cards in report order, skipping those with no undealt copy
         LinkedHashMap<String, Integer> sortedCountBySuitAndValue = new LinkedHashMap<>();
-        for (Card card : undealtCards) {
-            String key = card.getSuit() + "-" + card.getValue();
-            sortedCountBySuitAndValue.put(key, sortedCountBySuitAndValue.getOrDefault(key, 0) + 1);
+        for (Card card : REPORT_ORDER) {
+            int count = undealtCount(card.getOrdinal());
+            if (count > 0) {
+                sortedCountBySuitAndValue.put(REPORT_KEYS[card.getOrdinal()], count);
+            }
         }
-
         return sortedCountBySuitAndValue;
     }
 
-
     public List<Card> getUndealtCards() {
-        return cards.stream()
-                .filter(card -> !dealtCards.contains(card))
-                .collect(Collectors.toList());
+        List<Card> cards = cards();
+        return new ArrayList<>(cards.subList(drawCursor, cards.size()));
     }
 
     public List<Card> getCards() {
-        return new ArrayList<>(cards);
+        return new ArrayList<>(cards());
     }
 
     public Set<Card> getDealtCards() {
-        return new HashSet<>(dealtCards);
+        return new HashSet<>(cards().subList(0, drawCursor));
+    }
+
+    public int getDrawCursor() {
+        return drawCursor;
+    }
+
+    private List<Card> cards() {
+        if (cards == null) {
+            cards = resolveStorage();
+        }
+        return cards;
+    }
+
+    private List<Card> resolveStorage() {
+        List<Card> order = cardOrder != null ? CompactCardState.decode(cardOrder) : storedCards;
+
+        if (CompactCardState.isEnabled()) {
+            if (order == storedCards) {
+                // Move a join table shoe into the compact column
+                order = new ArrayList<>(storedCards);
+                storedCards.clear();
+                cardOrder = CompactCardState.encode(order);
+            }
+            return order;
+        }
+
+        if (order != storedCards) {
+            // Move a compact shoe back into the join table
+            storedCards.addAll(order);
+            cardOrder = null;
+        }
+        return storedCards;
+    }
+
+    private void orderChanged() {
+        cardCount = cards.size();
+        // The join table tracks the list itself, the compact column has to be rewritten
+        if (cards != storedCards) {
+            cardOrder = CompactCardState.encode(cards);
+        }
+    }
+
+    private byte[] undealtCounts() {
+        if (undealtCounts == null) {
+            // Count a shoe stored before the counts were kept, once
+            byte[] counts = new byte[2 * Card.CATALOGUE_SIZE];
+            List<Card> cards = cards();
+            for (int i = drawCursor; i < cards.size(); i++) {
+                int ordinal = cards.get(i).getOrdinal();
+                writeCount(counts, ordinal, readCount(counts, ordinal) + 1);
+            }
+            undealtCounts = counts;
+        }
+        return undealtCounts;
+    }
+
+    private int undealtCount(int ordinal) {
+        return readCount(undealtCounts(), ordinal);
+    }
+
+    private int[] undealtBySuit() {
+        if (undealtBySuit == null) {
+            int[] bySuit = new int[Suit.values().length];
+            for (Card card : Card.catalogue()) {
+                bySuit[card.getSuit().ordinal()] += undealtCount(card.getOrdinal());
+            }
+            undealtBySuit = bySuit;
+        }
+        return undealtBySuit;
+    }
+
+    // Updated in place, dirty checking compares the array contents
+    private void countUndealt(Card card, int delta) {
+        byte[] counts = undealtCounts();
+        writeCount(counts, card.getOrdinal(), readCount(counts, card.getOrdinal()) + delta);
+        if (undealtBySuit != null) {
+            undealtBySuit[card.getSuit().ordinal()] += delta;
+        }
+    }
+
+    private static int readCount(byte[] counts, int ordinal) {
+        return ((counts[2 * ordinal] & 0xFF) << 8) | (counts[2 * ordinal + 1] & 0xFF);
+    }
+
+    private static void writeCount(byte[] counts, int ordinal, int count) {
+        counts[2 * ordinal] = (byte) (count >>> 8);
+        counts[2 * ordinal + 1] = (byte) count;
+    }
+
+    // Decks are added whole and in catalogue order
+    private static int appendDecks(int[] ordinals, int from, int to) {
+        for (int i = from; i < to; i++) {
+            ordinals[i] = i % Card.CATALOGUE_SIZE;
+        }
+        return to;
+    }
+
+    private static void swap(List<Card> cards, int i, int j) {
+        if (i != j) {
+            cards.set(i, cards.set(j, cards.get(i)));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.cardgamedeck.card_game_deck_api.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The players of a game ranked by hand total, highest first, ties broken by
+ * name and id. Built once from the players' stored totals, then kept sorted
+ * by moving a player whenever their hand changes through the game.
+ */
+final class Leaderboard {
+
+    private static final Comparator<Player> RANKING = Comparator.comparingInt(Player::getTotalValue).reversed()
+            .thenComparing(Player::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Player::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<Player> ranking;
+
+    Leaderboard(Collection<Player> players) {
+        this.ranking = new ArrayList<>(players);
+        this.ranking.sort(RANKING);
+    }
+
+    void add(Player player) {
+        ranking.add(insertionPoint(player), player);
+    }
+
+    void remove(Player player) {
+        ranking.remove(player);
+    }
+
+    // Moves a player whose total changed back into rank order
+    void update(Player player) {
+        if (ranking.remove(player)) {
+            add(player);
+        }
+    }
+
+    /**
+     * Moves players whose totals all changed back into rank order. They are
+     * all taken out before any is put back, since a place is only found by
+     * comparing against players that are still in order.
+     */
+    void update(Collection<Player> players) {
+        List<Player> moved = new ArrayList<>(players.size());
+        for (Player player : new LinkedHashSet<>(players)) {
+            if (ranking.remove(player)) {
+                moved.add(player);
+            }
+        }
+        moved.forEach(this::add);
+    }
+
+    List<Player> ranking() {
+        return new ArrayList<>(ranking);
+    }
+
+    private int insertionPoint(Player player) {
+        int low = 0;
+        int high = ranking.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (RANKING.compare(ranking.get(middle), player) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
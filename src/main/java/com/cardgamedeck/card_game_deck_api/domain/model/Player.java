@@ -1,20 +1,33 @@
 package com.cardgamedeck.card_game_deck_api.domain.model;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CardConverter;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * A player and the hand they currently hold. Like the shoe, the hand is
+ * persisted either as {@code player_cards} rows or, when
+ * {@link CompactCardState} is enabled, as a single {@code hand} byte array.
+ * <p>
+ * The total value and size of the hand are kept in step with it and stored
+ * in columns of their own, so scores and listings never read the hand.
+ */
 @Entity
 @Table(name = "players")
 public class Player extends BaseEntity {
@@ -24,13 +37,27 @@ public class Player extends BaseEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(
-            name = "player_cards",
-            joinColumns = @JoinColumn(name = "player_id"),
-            inverseJoinColumns = @JoinColumn(name = "card_id")
-    )
-    private Set<Card> cards = new HashSet<>();
+    // A hand can hold the same card more than once when the shoe has several decks
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "player_cards", joinColumns = @JoinColumn(name = "player_id"))
+    @Column(name = "card_ordinal", nullable = false)
+    @Convert(converter = CardConverter.class)
+    @OrderColumn(name = "position")
+    private List<Card> storedCards = new ArrayList<>();
+
+    @Column(name = "hand", length = 65535)
+    private byte[] hand;
+
+    // Null for players stored before the columns existed, until their hand is next counted
+    @Column(name = "total_value")
+    private Integer totalValue;
+
+    @Column(name = "card_count")
+    private Integer cardCount;
+
+    // Hand in memory, shared with storedCards in join table mode
+    @Transient
+    private List<Card> cards;
 
     // Required by JPA
     protected Player() {
@@ -39,23 +66,109 @@ public class Player extends BaseEntity {
     public Player(String name) {
         super();
         this.name = name;
+        this.totalValue = 0;
+        this.cardCount = 0;
+    }
+
+    private Player(Player source) {
+        super(source);
+        this.name = source.name;
+        this.cards = new ArrayList<>(source.cards());
+        this.totalValue = source.getTotalValue();
+        this.cardCount = source.getCardCount();
+    }
+
+    /**
+     * A detached copy of the player and their current hand, safe to read
+     * while the original keeps changing. Snapshots are never persisted.
+     */
+    public Player snapshot() {
+        return new Player(this);
     }
 
-    public Set<Card> getCards() {
-        return new HashSet<>(cards);
+    public List<Card> getCards() {
+        return new ArrayList<>(cards());
     }
 
     public void addCard(Card card) {
-        cards.add(card);
+        // Read the totals before the hand grows, a hand without them is counted as it was
+        int total = getTotalValue();
+        int count = getCardCount();
+        cards().add(card);
+        totalValue = total + card.getFaceValue();
+        cardCount = count + 1;
+        handChanged();
     }
 
     public void removeAllCards() {
-        cards.clear();
+        cards().clear();
+        totalValue = 0;
+        cardCount = 0;
+        handChanged();
+    }
+
+    // Replaces the hand with the one held by a later copy of this player. A hand
+    // only grows until it is cleared, so the cards dealt since are appended.
+    public void copyHandFrom(Player source) {
+        List<Card> hand = cards();
+        List<Card> sourceHand = source.cards();
+        if (hand.size() > sourceHand.size() || !sourceHand.subList(0, hand.size()).equals(hand)) {
+            hand.clear();
+        }
+        hand.addAll(sourceHand.subList(hand.size(), sourceHand.size()));
+        totalValue = source.getTotalValue();
+        cardCount = source.getCardCount();
+        handChanged();
     }
 
     public int getTotalValue() {
-        return cards.stream()
-                .mapToInt(Card::getFaceValue)
-                .sum();
+        if (totalValue == null) {
+            totalValue = cards().stream()
+                    .mapToInt(Card::getFaceValue)
+                    .sum();
+        }
+        return totalValue;
+    }
+
+    public int getCardCount() {
+        if (cardCount == null) {
+            cardCount = cards().size();
+        }
+        return cardCount;
+    }
+
+    private List<Card> cards() {
+        if (cards == null) {
+            cards = resolveStorage();
+        }
+        return cards;
+    }
+
+    private List<Card> resolveStorage() {
+        List<Card> held = hand != null ? CompactCardState.decode(hand) : storedCards;
+
+        if (CompactCardState.isEnabled()) {
+            if (held == storedCards) {
+                // Move a join table hand into the compact column
+                held = new ArrayList<>(storedCards);
+                storedCards.clear();
+                hand = CompactCardState.encode(held);
+            }
+            return held;
+        }
+
+        if (held != storedCards) {
+            // Move a compact hand back into the join table
+            storedCards.addAll(held);
+            hand = null;
+        }
+        return storedCards;
+    }
+
+    private void handChanged() {
+        // The join table tracks the list itself, the compact column has to be rewritten
+        if (cards != storedCards) {
+            hand = CompactCardState.encode(cards);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.cardgamedeck.card_game_deck_api.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * One replayable shuffle of a shoe: the seed it used, the first undealt
+ * position it shuffled from and the number of cards in the shoe at the time.
+ */
+@Embeddable
+public class ShuffleRecord {
+
+    @Column(name = "seed", nullable = false)
+    private long seed;
+
+    @Column(name = "from_position", nullable = false)
+    private int fromPosition;
+
+    @Column(name = "card_count", nullable = false)
+    private int cardCount;
+
+    // Required by JPA
+    protected ShuffleRecord() {
+    }
+
+    public ShuffleRecord(long seed, int fromPosition, int cardCount) {
+        this.seed = seed;
+        this.fromPosition = fromPosition;
+        this.cardCount = cardCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getFromPosition() {
+        return fromPosition;
+    }
+
+    public int getCardCount() {
+        return cardCount;
+    }
+}
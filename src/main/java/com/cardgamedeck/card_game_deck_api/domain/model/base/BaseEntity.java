@@ -23,11 +23,25 @@ public abstract class BaseEntity implements Serializable {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped on every update, so concurrent writers of the same row cannot both succeed.
+    // Rows created before the column existed start at 0.
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     protected BaseEntity() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = this.createdAt;
     }
 
+    // Copies the identity of an entity into a detached copy of it
+    protected BaseEntity(BaseEntity source) {
+        this.id = source.id;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.version = source.version;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -40,6 +54,10 @@ public abstract class BaseEntity implements Serializable {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
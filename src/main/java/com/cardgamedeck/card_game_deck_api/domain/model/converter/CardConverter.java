@@ -0,0 +1,23 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.converter;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a card as its catalogue ordinal and reads it back as the shared instance.
+ */
+@Converter
+public class CardConverter implements AttributeConverter<Card, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Card card) {
+        return card == null ? null : (short) card.getOrdinal();
+    }
+
+    @Override
+    public Card convertToEntityAttribute(Short ordinal) {
+        return ordinal == null ? null : Card.fromOrdinal(ordinal);
+    }
+}
@@ -0,0 +1,45 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.converter;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact persistence for card sequences: one byte per card holding its
+ * catalogue ordinal. When enabled, {@code GameDeck} and {@code Player} store
+ * their cards in a single binary column instead of one join row per card,
+ * so a shuffle or a deal updates a single row. Enabled unless
+ * {@code card-game.persistence.compact-card-state} is false.
+ */
+public final class CompactCardState {
+
+    private static volatile boolean enabled;
+
+    private CompactCardState() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CompactCardState.enabled = enabled;
+    }
+
+    public static byte[] encode(List<Card> cards) {
+        byte[] data = new byte[cards.size()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) cards.get(i).getOrdinal();
+        }
+        return data;
+    }
+
+    public static List<Card> decode(byte[] data) {
+        List<Card> cards = new ArrayList<>(data.length);
+        for (byte ordinal : data) {
+            cards.add(Card.fromOrdinal(ordinal));
+        }
+        return cards;
+    }
+}
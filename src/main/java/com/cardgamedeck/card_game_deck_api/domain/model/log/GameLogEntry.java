@@ -0,0 +1,180 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.log;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One change of a game, in the order it was made. Entries are only ever
+ * appended: a change adds one small row per entry instead of rewriting the
+ * state it changed, and replaying the entries in order from the previous
+ * {@link GameSnapshot} rebuilds the shoe and hands of the game.
+ * <p>
+ * Cards are stored as one byte per card, holding their catalogue ordinal.
+ */
+@Entity
+@Table(name = "game_log")
+@IdClass(GameLogEntry.Key.class)
+public class GameLogEntry implements Persistable<GameLogEntry.Key> {
+
+    public enum Type {
+        // Cards appended to the shoe
+        DECKS_ADDED,
+        // The undealt cards reshuffled, from a seed or to the stored order
+        SHUFFLED,
+        // Cards dealt to a player
+        DEALT,
+        PLAYER_JOINED,
+        // A player left, returning the stored cards to the shoe
+        PLAYER_LEFT
+    }
+
+    @Id
+    @Column(name = "game_id", nullable = false, updatable = false)
+    private UUID gameId;
+
+    @Id
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false, length = 16)
+    private Type type;
+
+    @Column(name = "player_id", updatable = false)
+    private UUID playerId;
+
+    @Column(name = "seed", updatable = false)
+    private Long seed;
+
+    @Column(name = "cards", updatable = false, length = 65535)
+    private byte[] cards;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Required by JPA
+    protected GameLogEntry() {
+    }
+
+    private GameLogEntry(Type type, UUID playerId, Long seed, List<Card> cards) {
+        this.type = type;
+        this.playerId = playerId;
+        this.seed = seed;
+        this.cards = CompactCardState.encode(cards);
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static GameLogEntry decksAdded(List<Card> cards) {
+        return new GameLogEntry(Type.DECKS_ADDED, null, null, cards);
+    }
+
+    /**
+     * @param seed         The seed replaying the shuffle, or null if it cannot be replayed
+     * @param undealtOrder The undealt cards after a shuffle that cannot be replayed
+     */
+    public static GameLogEntry shuffled(Long seed, List<Card> undealtOrder) {
+        return new GameLogEntry(Type.SHUFFLED, null, seed, seed != null ? List.of() : undealtOrder);
+    }
+
+    public static GameLogEntry dealt(UUID playerId, List<Card> cards) {
+        return new GameLogEntry(Type.DEALT, playerId, null, cards);
+    }
+
+    public static GameLogEntry playerJoined(UUID playerId, List<Card> hand) {
+        return new GameLogEntry(Type.PLAYER_JOINED, playerId, null, hand);
+    }
+
+    public static GameLogEntry playerLeft(UUID playerId, List<Card> returnedCards) {
+        return new GameLogEntry(Type.PLAYER_LEFT, playerId, null, returnedCards);
+    }
+
+    /**
+     * Places the entry in the log of a game.
+     */
+    public void assign(UUID gameId, long sequence) {
+        this.gameId = gameId;
+        this.sequence = sequence;
+    }
+
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public List<Card> getCards() {
+        return CompactCardState.decode(cards);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(gameId, sequence);
+    }
+
+    // Entries are never updated, so saving one always inserts it without looking it up first
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public static class Key implements Serializable {
+
+        private UUID gameId;
+        private long sequence;
+
+        // Required by JPA
+        protected Key() {
+        }
+
+        public Key(UUID gameId, long sequence) {
+            this.gameId = gameId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return sequence == key.sequence && Objects.equals(gameId, key.gameId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gameId, sequence);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.log;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds the shoe and hands of a game from its log: starting from a
+ * snapshot, or from an empty game, and applying the entries that follow it
+ * in order. Every entry is applied the same way the game applied the change.
+ */
+public class GameReplay {
+
+    private final List<Card> cards;
+    private int drawCursor;
+    private final Map<UUID, List<Card>> hands;
+    private final Long snapshotSequence;
+    private long sequence;
+    private Boolean consistent;
+
+    private GameReplay(List<Card> cards, int drawCursor, Map<UUID, List<Card>> hands, Long snapshotSequence) {
+        this.cards = cards;
+        this.drawCursor = drawCursor;
+        this.hands = hands;
+        this.snapshotSequence = snapshotSequence;
+        this.sequence = snapshotSequence != null ? snapshotSequence : 0;
+    }
+
+    /**
+     * Starts a replay from a snapshot, or from the beginning of the log if there is none.
+     */
+    public static GameReplay startingFrom(GameSnapshot snapshot) {
+        if (snapshot == null) {
+            return new GameReplay(new ArrayList<>(), 0, new LinkedHashMap<>(), null);
+        }
+        return new GameReplay(snapshot.getCards(), snapshot.getDrawCursor(), snapshot.getHands(), snapshot.getSequence());
+    }
+
+    /**
+     * @throws IllegalStateException if the entry does not directly follow the ones applied so far
+     */
+    public void apply(GameLogEntry entry) {
+        if (entry.getSequence() != sequence) {
+            throw new IllegalStateException("Expected game log entry " + sequence + " but got " + entry.getSequence());
+        }
+
+        List<Card> entryCards = entry.getCards();
+        switch (entry.getType()) {
+            case DECKS_ADDED -> cards.addAll(entryCards);
+            case SHUFFLED -> shuffle(entry.getSeed(), entryCards);
+            case DEALT -> {
+                drawCursor += entryCards.size();
+                hands.computeIfAbsent(entry.getPlayerId(), id -> new ArrayList<>()).addAll(entryCards);
+            }
+            case PLAYER_JOINED -> hands.put(entry.getPlayerId(), new ArrayList<>(entryCards));
+            case PLAYER_LEFT -> {
+                returnCards(entryCards);
+                hands.remove(entry.getPlayerId());
+            }
+        }
+        sequence++;
+    }
+
+    /**
+     * Checks that the whole log was replayed and led to the stored shoe and
+     * seated players of the game. Hands are not compared, since a player
+     * seated in several games holds the cards dealt by all of them.
+     *
+     * @return whether the replay is consistent with the game
+     */
+    public boolean verifyAgainst(Game game) {
+        Set<UUID> seated = game.getPlayers().stream().map(Player::getId).collect(Collectors.toSet());
+        consistent = Long.valueOf(sequence).equals(game.getLogLength())
+                && drawCursor == game.getGameDeck().getDrawCursor()
+                && cards.equals(game.getGameDeck().getCards())
+                && seated.equals(hands.keySet());
+        return consistent;
+    }
+
+    /**
+     * The outcome of {@link #verifyAgainst}, or null if the replay was not verified.
+     */
+    public Boolean getConsistent() {
+        return consistent;
+    }
+
+    public List<Card> getCards() {
+        return new ArrayList<>(cards);
+    }
+
+    public int getDrawCursor() {
+        return drawCursor;
+    }
+
+    public int getUndealtCount() {
+        return cards.size() - drawCursor;
+    }
+
+    public Map<UUID, List<Card>> getHands() {
+        Map<UUID, List<Card>> copy = new LinkedHashMap<>();
+        hands.forEach((playerId, hand) -> copy.put(playerId, new ArrayList<>(hand)));
+        return copy;
+    }
+
+    /**
+     * The sequence of the snapshot the replay started from, or null if it started from the beginning.
+     */
+    public Long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    /**
+     * The number of log entries the replayed state reflects.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getReplayedEntries() {
+        return sequence - (snapshotSequence != null ? snapshotSequence : 0);
+    }
+
+    private void shuffle(Long seed, List<Card> undealtOrder) {
+        if (seed == null) {
+            // Not replayable, the entry holds the resulting order
+            for (int i = 0; i < undealtOrder.size(); i++) {
+                cards.set(drawCursor + i, undealtOrder.get(i));
+            }
+            return;
+        }
+
+        int[] ordinals = new int[cards.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = cards.get(i).getOrdinal();
+        }
+        ShuffleStrategy.replay(ordinals, drawCursor, ordinals.length, seed);
+        for (int i = drawCursor; i < ordinals.length; i++) {
+            cards.set(i, Card.fromOrdinal(ordinals[i]));
+        }
+    }
+
+    // Same as GameDeck#returnCards
+    private void returnCards(List<Card> returned) {
+        for (Card card : returned) {
+            int index = cards.subList(0, drawCursor).lastIndexOf(card);
+            if (index < 0) {
+                continue;
+            }
+            drawCursor--;
+            cards.set(index, cards.set(drawCursor, cards.get(index)));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.log;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The shoe and hands of a game after the first {@code sequence} entries of
+ * its log, so a replay only applies the entries that follow it.
+ * <p>
+ * The draw order takes one byte per card. Hands are stored one after the
+ * other, each as the player id, the number of cards and their ordinals.
+ */
+@Entity
+@Table(name = "game_snapshots")
+@IdClass(GameSnapshot.Key.class)
+public class GameSnapshot implements Persistable<GameSnapshot.Key> {
+
+    @Id
+    @Column(name = "game_id", nullable = false, updatable = false)
+    private UUID gameId;
+
+    @Id
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private long sequence;
+
+    @Column(name = "card_order", nullable = false, updatable = false, length = 65535)
+    private byte[] cardOrder;
+
+    @Column(name = "draw_cursor", nullable = false, updatable = false)
+    private int drawCursor;
+
+    @Column(name = "hands", nullable = false, updatable = false, length = 65535)
+    private byte[] hands;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Required by JPA
+    protected GameSnapshot() {
+    }
+
+    private GameSnapshot(UUID gameId, long sequence, byte[] cardOrder, int drawCursor, byte[] hands) {
+        this.gameId = gameId;
+        this.sequence = sequence;
+        this.cardOrder = cardOrder;
+        this.drawCursor = drawCursor;
+        this.hands = hands;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Takes a snapshot of a game as of the end of its log.
+     */
+    public static GameSnapshot of(Game game) {
+        Map<UUID, List<Card>> hands = new LinkedHashMap<>();
+        for (Player player : game.getPlayers()) {
+            hands.put(player.getId(), player.getCards());
+        }
+        return new GameSnapshot(game.getId(), game.getLogLength(),
+                CompactCardState.encode(game.getGameDeck().getCards()),
+                game.getGameDeck().getDrawCursor(), encodeHands(hands));
+    }
+
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public List<Card> getCards() {
+        return CompactCardState.decode(cardOrder);
+    }
+
+    public int getDrawCursor() {
+        return drawCursor;
+    }
+
+    public Map<UUID, List<Card>> getHands() {
+        ByteBuffer buffer = ByteBuffer.wrap(hands);
+        Map<UUID, List<Card>> decoded = new LinkedHashMap<>();
+        while (buffer.hasRemaining()) {
+            UUID playerId = new UUID(buffer.getLong(), buffer.getLong());
+            int count = buffer.getShort();
+            List<Card> hand = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                hand.add(Card.fromOrdinal(buffer.get()));
+            }
+            decoded.put(playerId, hand);
+        }
+        return decoded;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(gameId, sequence);
+    }
+
+    // Snapshots are never updated, so saving one always inserts it without looking it up first
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    private static byte[] encodeHands(Map<UUID, List<Card>> hands) {
+        int size = 0;
+        for (List<Card> hand : hands.values()) {
+            size += 2 * Long.BYTES + Short.BYTES + hand.size();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        hands.forEach((playerId, hand) -> {
+            buffer.putLong(playerId.getMostSignificantBits()).putLong(playerId.getLeastSignificantBits());
+            buffer.putShort((short) hand.size());
+            buffer.put(CompactCardState.encode(hand));
+        });
+        return buffer.array();
+    }
+
+    public static class Key implements Serializable {
+
+        private UUID gameId;
+        private long sequence;
+
+        // Required by JPA
+        protected Key() {
+        }
+
+        public Key(UUID gameId, long sequence) {
+            this.gameId = gameId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return sequence == key.sequence && Objects.equals(gameId, key.gameId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gameId, sequence);
+        }
+    }
+}
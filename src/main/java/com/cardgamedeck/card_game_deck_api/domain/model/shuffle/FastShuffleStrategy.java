@@ -0,0 +1,18 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.shuffle;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks a fresh seed per shuffle from the thread's own generator and
+ * shuffles with {@link java.util.SplittableRandom}. Cheap, replayable, not
+ * suitable where players could profit from predicting the order.
+ */
+public class FastShuffleStrategy implements ShuffleStrategy {
+
+    @Override
+    public Long shuffle(int[] ordinals, int from, int to) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        ShuffleStrategy.replay(ordinals, from, to, seed);
+        return seed;
+    }
+}
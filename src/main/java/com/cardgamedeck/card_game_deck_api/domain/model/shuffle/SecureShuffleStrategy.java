@@ -0,0 +1,21 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.shuffle;
+
+import java.security.SecureRandom;
+
+/**
+ * Draws every swap from a {@link SecureRandom}, so any order of the shoe
+ * can come out and none can be predicted. A 64-bit seed could only reach a
+ * tiny fraction of the orders of a shoe, so these shuffles are not replayable.
+ */
+public class SecureShuffleStrategy implements ShuffleStrategy {
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public Long shuffle(int[] ordinals, int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            ShuffleStrategy.swap(ordinals, i, from + random.nextInt(i - from + 1));
+        }
+        return null;
+    }
+}
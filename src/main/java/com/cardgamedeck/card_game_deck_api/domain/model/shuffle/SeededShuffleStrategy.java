@@ -0,0 +1,28 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.shuffle;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives the seed of every shuffle from one configured seed, so the same
+ * sequence of operations deals the same cards on every run. Meant for
+ * tests, demos and reproducing reported games.
+ */
+public class SeededShuffleStrategy implements ShuffleStrategy {
+
+    private final SplittableRandom seeds;
+
+    public SeededShuffleStrategy(long seed) {
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Long shuffle(int[] ordinals, int from, int to) {
+        long seed = nextSeed();
+        ShuffleStrategy.replay(ordinals, from, to, seed);
+        return seed;
+    }
+
+    private synchronized long nextSeed() {
+        return seeds.nextLong();
+    }
+}
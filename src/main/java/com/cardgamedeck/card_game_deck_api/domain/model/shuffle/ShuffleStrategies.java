@@ -0,0 +1,48 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.shuffle;
+
+/**
+ * The shuffle strategy used by every shoe. Entities are not Spring managed,
+ * so the configured strategy is shared statically.
+ */
+public final class ShuffleStrategies {
+
+    public static final String FAST = "fast";
+    public static final String SECURE = "secure";
+    public static final String SEEDED = "seeded";
+
+    private static volatile ShuffleStrategy current = new FastShuffleStrategy();
+
+    private ShuffleStrategies() {
+    }
+
+    public static ShuffleStrategy current() {
+        return current;
+    }
+
+    public static void use(ShuffleStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Shuffle strategy must not be null");
+        }
+        current = strategy;
+    }
+
+    /**
+     * Creates a strategy by name. The seeded strategy requires a seed, the
+     * others ignore it.
+     */
+    public static ShuffleStrategy forName(String name, Long seed) {
+        switch (name) {
+            case FAST:
+                return new FastShuffleStrategy();
+            case SECURE:
+                return new SecureShuffleStrategy();
+            case SEEDED:
+                if (seed == null) {
+                    throw new IllegalArgumentException("The seeded shuffle strategy requires a seed");
+                }
+                return new SeededShuffleStrategy(seed);
+            default:
+                throw new IllegalArgumentException("Unknown shuffle strategy: " + name);
+        }
+    }
+}
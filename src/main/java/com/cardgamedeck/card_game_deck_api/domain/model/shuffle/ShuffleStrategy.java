@@ -0,0 +1,36 @@
+package com.cardgamedeck.card_game_deck_api.domain.model.shuffle;
+
+import java.util.SplittableRandom;
+
+/**
+ * Shuffles a range of card ordinals in place. Strategies differ in where
+ * their randomness comes from and in whether a shuffle can be replayed.
+ * A replayable shuffle returns its seed, and {@link #replay} with that seed
+ * reproduces the same permutation.
+ */
+public interface ShuffleStrategy {
+
+    /**
+     * Shuffles {@code ordinals[from, to)} in place.
+     *
+     * @return the seed replaying this shuffle, or {@code null} if it cannot be replayed
+     */
+    Long shuffle(int[] ordinals, int from, int to);
+
+    /**
+     * Fisher-Yates shuffle of {@code ordinals[from, to)} driven by a seed.
+     * Every replayable strategy shuffles through this method.
+     */
+    static void replay(int[] ordinals, int from, int to, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = to - 1; i > from; i--) {
+            swap(ordinals, i, from + random.nextInt(i - from + 1));
+        }
+    }
+
+    static void swap(int[] ordinals, int i, int j) {
+        int ordinal = ordinals[i];
+        ordinals[i] = ordinals[j];
+        ordinals[j] = ordinal;
+    }
+}
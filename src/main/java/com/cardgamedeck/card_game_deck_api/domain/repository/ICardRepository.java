@@ -1,7 +0,0 @@
-package com.cardgamedeck.card_game_deck_api.domain.repository;
-
-import com.cardgamedeck.card_game_deck_api.domain.model.Card;
-import com.cardgamedeck.card_game_deck_api.domain.repository.base.IBaseRepository;
-
-public interface ICardRepository extends IBaseRepository<Card> {
-}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.cardgamedeck.card_game_deck_api.domain.repository;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IGameLogRepository extends JpaRepository<GameLogEntry, GameLogEntry.Key> {
+
+    /**
+     * The entries of a game from a sequence number on, in order. Only the page size of the pageable is meant to be used.
+     */
+    @Query("select e from GameLogEntry e where e.gameId = :gameId and e.sequence >= :from order by e.sequence")
+    List<GameLogEntry> findEntriesFrom(@Param("gameId") UUID gameId, @Param("from") long from, Pageable pageable);
+
+    @Modifying
+    @Query("delete from GameLogEntry e where e.gameId = :gameId")
+    void deleteByGameId(@Param("gameId") UUID gameId);
+}
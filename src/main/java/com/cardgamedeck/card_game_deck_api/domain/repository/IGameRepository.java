@@ -2,6 +2,94 @@ package com.cardgamedeck.card_game_deck_api.domain.repository;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
 import com.cardgamedeck.card_game_deck_api.domain.repository.base.IBaseRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Repository for games. The associations of {@link Game} are lazy, so each
+ * use case loads the game through the fetch plan that covers what it touches.
+ * Collections left out of a plan (the shoe's cards, the players' hands) are
+ * loaded on first access, batched across players.
+ * <p>
+ * Read-only listings use the {@link GameSummary} projections instead, which
+ * compute the undealt and player counts in SQL without loading any entity.
+ */
 public interface IGameRepository extends IBaseRepository<Game> {
-}
\ No newline at end of file
+
+    String SUMMARY_SELECT = "select g.id as id, g.name as name, g.createdAt as createdAt, " +
+            // card_count is null for shoes stored before it existed, count their compact order bytes
+            // or join table rows instead
+            "coalesce(d.cardCount, d.compactCardCount, size(d.storedCards)) - d.drawCursor as undealtCardCount, " +
+            "size(g.players) as playerCount " +
+            "from Game g join g.gameDeck d ";
+
+    /**
+     * Loads a game with its shoe and players, for operations that change either.
+     */
+    @EntityGraph(attributePaths = {"gameDeck", "players"})
+    Optional<Game> findWithDeckAndPlayersById(UUID id);
+
+    /**
+     * Loads every game with its shoe and players.
+     */
+    @EntityGraph(attributePaths = {"gameDeck", "players"})
+    List<Game> findAllWithDeckAndPlayersBy();
+
+    /**
+     * Loads a game with its players for ranking them by hand value.
+     */
+    @EntityGraph(attributePaths = {"players"})
+    Optional<Game> findWithPlayersById(UUID id);
+
+    /**
+     * Loads a game with its shoe only, for undealt card statistics.
+     */
+    @EntityGraph(attributePaths = {"gameDeck"})
+    Optional<Game> findWithGameDeckById(UUID id);
+
+    /**
+     * The ids of the games a player is seated in.
+     */
+    @Query("select g.id from Game g join g.players p where p.id = :playerId")
+    List<UUID> findIdsByPlayerId(@Param("playerId") UUID playerId);
+
+    @Query(SUMMARY_SELECT + "where g.id = :id")
+    Optional<GameSummary> findGameSummaryById(@Param("id") UUID id);
+
+    @Query(SUMMARY_SELECT + "order by g.createdAt, g.id")
+    List<GameSummary> findAllGameSummaries();
+
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(g) from Game g")
+    Page<GameSummary> findGameSummaryPage(Pageable pageable);
+
+    /**
+     * First keyset page; unlike {@link #findGameSummaryPage} it skips the count query.
+     */
+    @Query(SUMMARY_SELECT + "order by g.createdAt, g.id")
+    List<GameSummary> findFirstGameSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where g.createdAt > :createdAt or (g.createdAt = :createdAt and g.id > :id) " +
+            "order by g.createdAt, g.id")
+    List<GameSummary> findGameSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "order by g.createdAt, g.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "64"))
+    Stream<GameSummary> streamAllGameSummaries();
+}
@@ -0,0 +1,19 @@
+package com.cardgamedeck.card_game_deck_api.domain.repository;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IGameSnapshotRepository extends JpaRepository<GameSnapshot, GameSnapshot.Key> {
+
+    Optional<GameSnapshot> findFirstByGameIdOrderBySequenceDesc(UUID gameId);
+
+    @Modifying
+    @Query("delete from GameSnapshot s where s.gameId = :gameId")
+    void deleteByGameId(@Param("gameId") UUID gameId);
+}
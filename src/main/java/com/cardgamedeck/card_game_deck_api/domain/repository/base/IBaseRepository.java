@@ -1,11 +1,46 @@
 package com.cardgamedeck.card_game_deck_api.domain.repository.base;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @NoRepositoryBean
 public interface IBaseRepository<T extends BaseEntity> extends JpaRepository<T, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * Keyset page: the entities created after the given (createdAt, id) position,
+     * in creation order. Only the page size of the pageable is meant to be used.
+     */
+    @Query("select e from #{#entityName} e " +
+            "where e.createdAt > :createdAt or (e.createdAt = :createdAt and e.id > :id)")
+    List<T> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * The version of an entity, without loading it.
+     */
+    @Query("select e.version from #{#entityName} e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Every entity in creation order, read through a database cursor.
+     * Must be consumed and closed inside a transaction.
+     */
+    @Query("select e from #{#entityName} e order by e.createdAt, e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "64"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<T> streamAllOrdered();
+}
@@ -0,0 +1,21 @@
+package com.cardgamedeck.card_game_deck_api.domain.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The summary columns of a game, computed by the database instead of by
+ * loading the game's shoe and players.
+ */
+public interface GameSummary {
+
+    UUID getId();
+
+    String getName();
+
+    LocalDateTime getCreatedAt();
+
+    int getUndealtCardCount();
+
+    int getPlayerCount();
+}
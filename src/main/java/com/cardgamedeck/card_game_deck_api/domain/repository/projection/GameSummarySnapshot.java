@@ -0,0 +1,62 @@
+package com.cardgamedeck.card_game_deck_api.domain.repository.projection;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A {@link GameSummary} copied into plain fields, safe to cache and to read
+ * from any thread. Taken from a game held in memory, so summaries of hot
+ * games are not stale until the next flush, or from a game just changed for
+ * the subscribers of its changes, or from a summary read from the database.
+ */
+public class GameSummarySnapshot implements GameSummary {
+
+    private final UUID id;
+    private final String name;
+    private final LocalDateTime createdAt;
+    private final int undealtCardCount;
+    private final int playerCount;
+
+    public GameSummarySnapshot(Game game) {
+        this.id = game.getId();
+        this.name = game.getName();
+        this.createdAt = game.getCreatedAt();
+        this.undealtCardCount = game.getGameDeck().getUndealtCount();
+        this.playerCount = game.getPlayerCount();
+    }
+
+    public GameSummarySnapshot(GameSummary summary) {
+        this.id = summary.getId();
+        this.name = summary.getName();
+        this.createdAt = summary.getCreatedAt();
+        this.undealtCardCount = summary.getUndealtCardCount();
+        this.playerCount = summary.getPlayerCount();
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public int getUndealtCardCount() {
+        return undealtCardCount;
+    }
+
+    @Override
+    public int getPlayerCount() {
+        return playerCount;
+    }
+}
@@ -0,0 +1,52 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.config;
+
+import com.cardgamedeck.card_game_deck_api.application.impl.cache.GameCaches;
+import com.cardgamedeck.card_game_deck_api.application.impl.cache.GameReadCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-process caches for the game read operations. The cache advice
+ * runs outside the conflict retries and transactions, so a hit needs no
+ * connection; evictions made inside a transaction wait for its commit, and
+ * a read that started before an eviction is not cached.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 2)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${card-game.cache.enabled:true}") boolean enabled,
+                                     @Value("${card-game.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${card-game.cache.time-to-live-ms:5000}") long timeToLiveMillis) {
+        if (!enabled) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new GameReadCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(timeToLiveMillis))
+                .recordStats());
+        cacheManager.setCacheNames(GameCaches.ALL);
+        cacheManager.setAllowNullValues(false);
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
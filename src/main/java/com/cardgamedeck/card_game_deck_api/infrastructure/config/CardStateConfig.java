@@ -0,0 +1,20 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.config;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CardStateConfig {
+
+    @Value("${card-game.persistence.compact-card-state:true}")
+    private boolean compactCardState;
+
+    @PostConstruct
+    public void applyCardStateMode() {
+        // Entities are not Spring managed, so the storage mode is shared statically
+        CompactCardState.setEnabled(compactCardState);
+    }
+}
@@ -0,0 +1,38 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.config;
+
+import com.cardgamedeck.card_game_deck_api.infrastructure.metrics.StatementCounter;
+import com.cardgamedeck.card_game_deck_api.infrastructure.metrics.StatementMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the per-request SQL statement count: Hibernate reports every statement
+ * to one shared {@link StatementCounter}, which a servlet filter opens and
+ * records around each request.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementMetricsFilter> statementMetricsFilter(StatementCounter statementCounter,
+                                                                                 MeterRegistry registry) {
+        FilterRegistrationBean<StatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new StatementMetricsFilter(statementCounter, registry));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
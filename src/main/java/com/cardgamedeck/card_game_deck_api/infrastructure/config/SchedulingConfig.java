@@ -0,0 +1,10 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Runs the hot game engine's write-behind flushes and idle evictions
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,23 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.config;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategies;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ShuffleConfig {
+
+    @Value("${card-game.shuffle.strategy:fast}")
+    private String strategy;
+
+    @Value("${card-game.shuffle.seed:#{null}}")
+    private Long seed;
+
+    @PostConstruct
+    public void applyShuffleStrategy() {
+        // Entities are not Spring managed, so the strategy is shared statically
+        ShuffleStrategies.use(ShuffleStrategies.forName(strategy, seed));
+    }
+}
@@ -0,0 +1,37 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Requests run on virtual threads when {@code spring.threads.virtual.enabled}
+ * is set (the {@code virtual} profile) on Java 21 or later, built with the
+ * {@code java21} Maven profile. On earlier versions the property is ignored
+ * and requests keep running on the Tomcat thread pool, so this says which
+ * one is in use at startup.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    private final Environment environment;
+
+    public ThreadingConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @PostConstruct
+    public void reportThreading() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Serving requests on virtual threads");
+        } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("Virtual threads need Java 21, running on Java {}: serving requests on platform threads",
+                    Runtime.version().feature());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.cardgamedeck.card_game_deck_api.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request issued, tagged by method and
+ * URI template like the http.server.requests timer. Statements of a streamed
+ * response body written on another thread are not included.
+ */
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_SUMMARY = "cardgame.http.statements";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry registry;
+
+    public StatementMetricsFilter(StatementCounter statementCounter, MeterRegistry registry) {
+        this.statementCounter = statementCounter;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                    .description("SQL statements issued per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(100.0)
+                    .register(registry)
+                    .record(statements);
+        }
+    }
+}
@@ -3,14 +3,26 @@ package com.cardgamedeck.card_game_deck_api.presentation.controller;
 import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
 import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.DeckDTO;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.BulkCreateDecksRequest;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.PageCursor;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CursorPageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.http.ETags;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.DeckMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PageMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.NdjsonStreamer;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,10 +35,15 @@ public class DeckController {
 
     private final IDeckService deckService;
     private final DeckMapper deckMapper;
+    private final PageMapper pageMapper;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public DeckController(IDeckService deckService, DeckMapper deckMapper) {
+    public DeckController(IDeckService deckService, DeckMapper deckMapper, PageMapper pageMapper,
+                          NdjsonStreamer ndjsonStreamer) {
         this.deckService = deckService;
         this.deckMapper = deckMapper;
+        this.pageMapper = pageMapper;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @PostMapping
@@ -38,12 +55,28 @@ public class DeckController {
         return new ResponseEntity<>(deckDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create decks in bulk",
+            description = "Creates a number of decks, or one deck per given name, in chunked transactions and "
+                    + "streams each created deck as newline-delimited JSON once its chunk is committed")
+    public ResponseEntity<StreamingResponseBody> createDecks(@Valid @RequestBody BulkCreateDecksRequest request) {
+        List<String> names = request.getNames() != null ? request.getNames() : numberedDeckNames(request.getCount());
+
+        return ndjsonStreamer.stream(HttpStatus.CREATED, action -> deckService.createDecks(names, action),
+                deckMapper::toDTO);
+    }
+
     @GetMapping("/{deckId}")
     @Operation(summary = "Get a deck by ID", description = "Returns a deck by its ID")
-    public ResponseEntity<DeckDTO> getDeckById(@PathVariable UUID deckId) {
+    public ResponseEntity<DeckDTO> getDeckById(@PathVariable UUID deckId, WebRequest request) {
+        if (ETags.notModified(request, () -> deckService.findVersion(deckId).map(ETags::ofVersion))) {
+            return null;
+        }
+
         Optional<Deck> deck = deckService.findById(deckId);
 
-        return deck.map(value -> new ResponseEntity<>(deckMapper.toDTO(value), HttpStatus.OK))
+        return deck.map(value -> ResponseEntity.ok().eTag(ETags.ofVersion(value.getVersion()))
+                        .body(deckMapper.toDTO(value)))
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
@@ -58,4 +91,38 @@ public class DeckController {
 
         return new ResponseEntity<>(deckDTOs, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    @GetMapping(params = {"size", "!limit"})
+    @Operation(summary = "Get a page of decks", description = "Returns one page of decks in creation order")
+    public ResponseEntity<PageResponse<DeckDTO>> getDecksPage(@RequestParam(defaultValue = "0") int page,
+                                                              @RequestParam int size) {
+        Page<Deck> decks = deckService.findPage(page, size);
+
+        return new ResponseEntity<>(pageMapper.toPageResponse(decks, deckMapper::toDTO), HttpStatus.OK);
+    }
+
+    @GetMapping(params = {"limit", "!size"})
+    @Operation(summary = "Get decks after a cursor",
+            description = "Returns the decks created after the cursor; pass nextCursor back as 'after' for the next page")
+    public ResponseEntity<CursorPageResponse<DeckDTO>> getDecksAfter(@RequestParam(required = false) String after,
+                                                                     @RequestParam int limit) {
+        PageCursor cursor = pageMapper.decodeCursor(after);
+        List<Deck> decks = deckService.findAfter(cursor.getCreatedAt(), cursor.getId(), limit);
+
+        return new ResponseEntity<>(pageMapper.toCursorPageResponse(decks, limit, deckMapper::toDTO), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all decks", description = "Streams every deck as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllDecks() {
+        return ndjsonStreamer.stream(deckService::streamAll, deckMapper::toDTO);
+    }
+
+    private static List<String> numberedDeckNames(int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            names.add("Deck " + i);
+        }
+        return names;
+    }
+}
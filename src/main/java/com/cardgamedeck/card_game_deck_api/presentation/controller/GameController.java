@@ -2,22 +2,41 @@ package com.cardgamedeck.card_game_deck_api.presentation.controller;
 
 import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.GameDTO;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.request.*;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountBySuitResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountByValueResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CursorPageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.GameLogEntryResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.GameReplayResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PageResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PlayerScoreResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.http.ETags;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.CardMapper;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.GameMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PageMapper;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.PlayerMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.GameEventStreamer;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.NdjsonStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,11 +48,21 @@ public class GameController {
     private final IGameService gameService;
     private final GameMapper gameMapper;
     private final PlayerMapper playerMapper;
+    private final CardMapper cardMapper;
+    private final PageMapper pageMapper;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final GameEventStreamer gameEventStreamer;
 
-    public GameController(IGameService gameService, GameMapper gameMapper, PlayerMapper playerMapper) {
+    public GameController(IGameService gameService, GameMapper gameMapper, PlayerMapper playerMapper,
+                          CardMapper cardMapper, PageMapper pageMapper, NdjsonStreamer ndjsonStreamer,
+                          GameEventStreamer gameEventStreamer) {
         this.gameService = gameService;
         this.gameMapper = gameMapper;
         this.playerMapper = playerMapper;
+        this.cardMapper = cardMapper;
+        this.pageMapper = pageMapper;
+        this.ndjsonStreamer = ndjsonStreamer;
+        this.gameEventStreamer = gameEventStreamer;
     }
 
     @PostMapping
@@ -56,17 +85,26 @@ public class GameController {
 
     @GetMapping("/{gameId}")
     @Operation(summary = "Get a game by ID", description = "Returns a game by its ID")
-    public ResponseEntity<GameDTO> getGameById(@PathVariable UUID gameId) {
-        Optional<Game> gameEntity = gameService.findById(gameId);
+    public ResponseEntity<GameDTO> getGameById(@PathVariable UUID gameId, WebRequest request) {
+        Optional<GameSummary> summary = gameService.findSummary(gameId);
+        if (summary.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
 
-        return gameEntity.map(game -> new ResponseEntity<>(gameMapper.toDTO(game), HttpStatus.OK))
-                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        GameSummary game = summary.get();
+        String etag = ETags.ofValues(game.getId(), game.getName(), game.getCreatedAt(),
+                game.getUndealtCardCount(), game.getPlayerCount());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(gameMapper.toDTO(game));
     }
 
     @GetMapping
     @Operation(summary = "Get all games", description = "Returns all games")
     public ResponseEntity<List<GameDTO>> getAllGames() {
-        List<Game> games = gameService.findAll();
+        List<GameSummary> games = gameService.findAllSummaries();
         List<GameDTO> gameDTOs = games.stream()
                 .map(gameMapper::toDTO)
                 .collect(Collectors.toList());
@@ -74,6 +112,71 @@ public class GameController {
         return new ResponseEntity<>(gameDTOs, HttpStatus.OK);
     }
 
+    @GetMapping(params = {"size", "!limit"})
+    @Operation(summary = "Get a page of games", description = "Returns one page of games in creation order")
+    public ResponseEntity<PageResponse<GameDTO>> getGamesPage(@RequestParam(defaultValue = "0") int page,
+                                                              @RequestParam int size) {
+        Page<GameSummary> games = gameService.findSummaryPage(page, size);
+
+        return new ResponseEntity<>(pageMapper.toPageResponse(games, gameMapper::toDTO), HttpStatus.OK);
+    }
+
+    @GetMapping(params = {"limit", "!size"})
+    @Operation(summary = "Get games after a cursor",
+            description = "Returns the games created after the cursor; pass nextCursor back as 'after' for the next page")
+    public ResponseEntity<CursorPageResponse<GameDTO>> getGamesAfter(@RequestParam(required = false) String after,
+                                                                     @RequestParam int limit) {
+        PageCursor cursor = pageMapper.decodeCursor(after);
+        List<GameSummary> games = gameService.findSummariesAfter(cursor.getCreatedAt(), cursor.getId(), limit);
+        CursorPageResponse<GameDTO> response = pageMapper.toCursorPageResponse(games, limit, gameMapper::toDTO,
+                game -> new PageCursor(game.getCreatedAt(), game.getId()));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all games", description = "Streams every game as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllGames() {
+        return ndjsonStreamer.stream(gameService::streamSummaries, gameMapper::toDTO);
+    }
+
+    @GetMapping(value = "/{gameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream game changes",
+            description = "Pushes the game and its player scores as server-sent events, then again after every deal, "
+                    + "shuffle, deck added, player joining or leaving, until the game is deleted")
+    public SseEmitter streamGameEvents(@PathVariable UUID gameId) {
+        if (!gameService.existsById(gameId)) {
+            throw new EntityNotFoundException("Game not found with ID: " + gameId);
+        }
+
+        return gameEventStreamer.stream(gameId);
+    }
+
+    @GetMapping("/{gameId}/log")
+    @Operation(summary = "Get the log of a game",
+            description = "Returns the changes made to the game in order, starting from the given entry")
+    public ResponseEntity<List<GameLogEntryResponse>> getGameLog(@PathVariable UUID gameId,
+                                                                 @RequestParam(defaultValue = "0") long from,
+                                                                 @RequestParam(defaultValue = "100") int limit) {
+        List<GameLogEntry> entries = gameService.getLog(gameId, from, limit);
+        List<GameLogEntryResponse> response = entries.stream()
+                .map(entry -> gameMapper.toLogEntryResponse(entry, entry.getCards().stream()
+                        .map(cardMapper::toDTO)
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/{gameId}/log/replay")
+    @Operation(summary = "Replay the log of a game",
+            description = "Rebuilds the game from its latest snapshot and log, and checks it against the stored game")
+    public ResponseEntity<GameReplayResponse> replayGameLog(@PathVariable UUID gameId) {
+        GameReplayResponse response = gameMapper.toReplayResponse(gameId, gameService.replayLog(gameId));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @PostMapping("/{gameId}/decks/{deckId}")
     @Operation(summary = "Add a deck to a game", description = "Adds a deck to the game's deck (shoe)")
     public ResponseEntity<GameDTO> addDeckToGame(@PathVariable UUID gameId, @PathVariable UUID deckId) {
@@ -83,6 +186,20 @@ public class GameController {
         return new ResponseEntity<>(gameDTO, HttpStatus.OK);
     }
 
+    @PostMapping("/{gameId}/decks")
+    @Operation(summary = "Add several decks to a game",
+            description = "Adds the listed decks, or a number of fresh standard decks, to the game's deck (shoe) "
+                    + "and shuffles it once")
+    public ResponseEntity<GameDTO> addDecksToGame(@PathVariable UUID gameId,
+                                                  @Valid @RequestBody AddDecksRequest request) {
+        Game gameEntity = request.getDeckIds() != null
+                ? gameService.addDecksToGame(gameId, request.getDeckIds())
+                : gameService.addStandardDecksToGame(gameId, request.getDeckCount());
+        GameDTO gameDTO = gameMapper.toDTO(gameEntity);
+
+        return new ResponseEntity<>(gameDTO, HttpStatus.OK);
+    }
+
     @PostMapping("/{gameId}/players/{playerId}")
     @Operation(summary = "Add a player to a game", description = "Adds a player to a game")
     public ResponseEntity<GameDTO> addPlayerToGame(@PathVariable UUID gameId, @PathVariable UUID playerId) {
@@ -115,32 +232,64 @@ public class GameController {
         return new ResponseEntity<>(gameDTO, HttpStatus.OK);
     }
 
+    @PostMapping("/{gameId}/deal-round")
+    @Operation(summary = "Deal a round of cards", description = "Deals cards round-robin to the listed players in table order")
+    public ResponseEntity<GameDTO> dealRound(
+            @PathVariable UUID gameId,
+            @Valid @RequestBody DealRoundRequest request) {
+
+        Game gameEntity = gameService.dealRound(gameId, request.getPlayerIds(), request.getCount());
+        GameDTO gameDTO = gameMapper.toDTO(gameEntity);
+
+        return new ResponseEntity<>(gameDTO, HttpStatus.OK);
+    }
+
     @GetMapping("/{gameId}/players/scores")
     @Operation(summary = "Get player scores", description = "Returns players sorted by their total card values")
-    public ResponseEntity<List<PlayerScoreResponse>> getPlayerScores(@PathVariable UUID gameId) {
-        List<PlayerScoreResponse> playerScores = gameService.getPlayersWithTotalValues(gameId).stream()
+    public ResponseEntity<List<PlayerScoreResponse>> getPlayerScores(@PathVariable UUID gameId, WebRequest request) {
+        List<Player> players = gameService.getPlayersWithTotalValues(gameId);
+        String etag = ETags.ofValues(players.stream()
+                .map(player -> new Object[]{player.getId(), player.getName(), player.getTotalValue(), player.getCardCount()})
+                .toArray());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<PlayerScoreResponse> playerScores = players.stream()
                 .map(playerMapper::toScoreDTO)
                 .collect(Collectors.toList());
 
-        return new ResponseEntity<>(playerScores, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(playerScores);
     }
 
     @GetMapping("/{gameId}/deck/cards-by-suit")
     @Operation(summary = "Get undealt cards by suit", description = "Returns the count of undealt cards grouped by suit")
-    public ResponseEntity<CardCountBySuitResponse> getUndealtCardsBySuit(@PathVariable UUID gameId) {
+    public ResponseEntity<CardCountBySuitResponse> getUndealtCardsBySuit(@PathVariable UUID gameId,
+                                                                         WebRequest request) {
         var cardCount = gameService.getUndealtCardsBySuit(gameId);
+        String etag = ETags.ofValues(new TreeMap<>(cardCount));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
         CardCountBySuitResponse response = gameMapper.toCardCountBySuitResponse(cardCount);
 
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/{gameId}/deck/cards-by-value")
     @Operation(summary = "Get undealt cards by suit and value", description = "Returns the count of each undealt card by suit and value")
-    public ResponseEntity<CardCountByValueResponse> getUndealtCardsByValue(@PathVariable UUID gameId) {
+    public ResponseEntity<CardCountByValueResponse> getUndealtCardsByValue(@PathVariable UUID gameId,
+                                                                           WebRequest request) {
         var cardCount = gameService.getUndealtCardsBySuitAndValue(gameId);
+        String etag = ETags.ofValues(new TreeMap<>(cardCount));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
         CardCountByValueResponse response = gameMapper.toCardCountByValueResponse(cardCount);
 
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @PostMapping("/{gameId}/deck/shuffle")
@@ -4,18 +4,26 @@ import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.CardDTO;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.PlayerDTO;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.PageCursor;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CursorPageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PageResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PlayerCardsResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.http.ETags;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.CardMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PageMapper;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.PlayerMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.NdjsonStreamer;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,11 +35,16 @@ public class PlayerController {
     private final IPlayerService playerService;
     private final PlayerMapper playerMapper;
     private final CardMapper cardMapper;
+    private final PageMapper pageMapper;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public PlayerController(IPlayerService playerService, PlayerMapper playerMapper, CardMapper cardMapper) {
+    public PlayerController(IPlayerService playerService, PlayerMapper playerMapper, CardMapper cardMapper,
+                            PageMapper pageMapper, NdjsonStreamer ndjsonStreamer) {
         this.playerService = playerService;
         this.playerMapper = playerMapper;
         this.cardMapper = cardMapper;
+        this.pageMapper = pageMapper;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @PostMapping
@@ -43,9 +56,14 @@ public class PlayerController {
 
     @GetMapping("/{playerId}")
     @Operation(summary = "Get a player by ID", description = "Returns a player by their ID")
-    public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable UUID playerId) {
+    public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable UUID playerId, WebRequest request) {
+        if (ETags.notModified(request, () -> playerService.findVersion(playerId).map(ETags::ofVersion))) {
+            return null;
+        }
+
         return playerService.findById(playerId)
-                .map(player -> new ResponseEntity<>(playerMapper.toDTO(player), HttpStatus.OK))
+                .map(player -> ResponseEntity.ok().eTag(ETags.ofVersion(player.getVersion()))
+                        .body(playerMapper.toDTO(player)))
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
@@ -58,18 +76,48 @@ public class PlayerController {
         return new ResponseEntity<>(players, HttpStatus.OK);
     }
 
+    @GetMapping(params = {"size", "!limit"})
+    @Operation(summary = "Get a page of players", description = "Returns one page of players in creation order")
+    public ResponseEntity<PageResponse<PlayerDTO>> getPlayersPage(@RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam int size) {
+        Page<Player> players = playerService.findPage(page, size);
+
+        return new ResponseEntity<>(pageMapper.toPageResponse(players, playerMapper::toDTO), HttpStatus.OK);
+    }
+
+    @GetMapping(params = {"limit", "!size"})
+    @Operation(summary = "Get players after a cursor",
+            description = "Returns the players created after the cursor; pass nextCursor back as 'after' for the next page")
+    public ResponseEntity<CursorPageResponse<PlayerDTO>> getPlayersAfter(@RequestParam(required = false) String after,
+                                                                         @RequestParam int limit) {
+        PageCursor cursor = pageMapper.decodeCursor(after);
+        List<Player> players = playerService.findAfter(cursor.getCreatedAt(), cursor.getId(), limit);
+
+        return new ResponseEntity<>(pageMapper.toCursorPageResponse(players, limit, playerMapper::toDTO), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all players", description = "Streams every player as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllPlayers() {
+        return ndjsonStreamer.stream(playerService::streamAll, playerMapper::toDTO);
+    }
+
     @GetMapping("/{playerId}/cards")
     @Operation(summary = "Get player's cards", description = "Returns all cards held by a player")
-    public ResponseEntity<PlayerCardsResponse> getPlayerCards(@PathVariable UUID playerId) {
+    public ResponseEntity<PlayerCardsResponse> getPlayerCards(@PathVariable UUID playerId, WebRequest request) {
+        if (ETags.notModified(request, () -> playerService.findVersion(playerId).map(ETags::ofVersion))) {
+            return null;
+        }
+
         Player player = playerService.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("Player not found with ID: " + playerId));
 
-        Set<CardDTO> cardDTOs = playerService.getPlayerCards(playerId).stream()
+        List<CardDTO> cardDTOs = playerService.getPlayerCards(playerId).stream()
                 .map(cardMapper::toDTO)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toList());
 
         PlayerCardsResponse response = playerMapper.toCardsResponse(player, cardDTOs);
 
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(ETags.ofVersion(player.getVersion())).body(response);
     }
 }
\ No newline at end of file
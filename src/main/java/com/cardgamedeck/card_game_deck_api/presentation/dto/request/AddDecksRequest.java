@@ -0,0 +1,28 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddDecksRequest {
+    @Min(value = 1, message = "Must add at least 1 deck")
+    @Max(value = 16, message = "Cannot add more than 16 decks at once")
+    private Integer deckCount;
+
+    @Size(min = 1, max = 16, message = "Must list between 1 and 16 decks")
+    private List<@NotNull(message = "Deck ID is required") UUID> deckIds;
+
+    @JsonIgnore
+    @AssertTrue(message = "Provide either a deck count or a list of deck IDs")
+    public boolean isDeckCountOrDeckIds() {
+        return (deckCount == null) != (deckIds == null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateDecksRequest {
+    @Min(value = 1, message = "Must create at least 1 deck")
+    @Max(value = 10000, message = "Cannot create more than 10000 decks at once")
+    private Integer count;
+
+    @Size(min = 1, max = 10000, message = "Must name between 1 and 10000 decks")
+    private List<@NotBlank(message = "Deck name is required") String> names;
+
+    @JsonIgnore
+    @AssertTrue(message = "Provide either a count or a list of names")
+    public boolean isCountOrNames() {
+        return (count == null) != (names == null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DealRoundRequest {
+    @NotEmpty(message = "At least one player is required")
+    private List<@NotNull(message = "Player ID is required") UUID> playerIds;
+
+    @Min(value = 1, message = "Must deal at least 1 card per player")
+    @Max(value = 52, message = "Cannot deal more than 52 cards per player at once")
+    private int count = 1;
+}
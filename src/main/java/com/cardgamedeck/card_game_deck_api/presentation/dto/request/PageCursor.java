@@ -0,0 +1,16 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageCursor {
+    private LocalDateTime createdAt;
+    private UUID id;
+}
@@ -0,0 +1,16 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    // Pass back as "after" to get the next page; null once the last page is reached
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.response;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.CardDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameLogEntryResponse {
+    private long sequence;
+    private GameLogEntry.Type type;
+    private UUID playerId;
+    private Long seed;
+    private List<CardDTO> cards;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.cardgamedeck.card_game_deck_api.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameReplayResponse {
+    private UUID gameId;
+    private long logLength;
+    private Long snapshotSequence;
+    private long replayedEntries;
+    private int cardCount;
+    private int undealtCardCount;
+    private int playerCount;
+    private Boolean consistent;
+}
@@ -5,7 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -14,5 +14,5 @@ import java.util.UUID;
 public class PlayerCardsResponse {
     private UUID playerId;
     private String playerName;
-    private Set<CardDTO> cards;
+    private List<CardDTO> cards;
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.cardgamedeck.card_game_deck_api.presentation.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Entity tags for conditional GETs. A client that sends the tag of its copy back
+ * in If-None-Match is answered 304 Not Modified, without the response being mapped
+ * or written, for as long as the tag still matches.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * A tag for an entity read from the database, whose version changes with every update of its row.
+     */
+    public static String ofVersion(Long version) {
+        return "\"v" + version + "\"";
+    }
+
+    /**
+     * A tag for values served from a cache or from the hot game engine, which can be behind
+     * or ahead of the version in the database. Derived from the values themselves instead,
+     * so the tag always describes the body it is sent with.
+     */
+    public static String ofValues(Object... values) {
+        byte[] content = Arrays.deepToString(values).getBytes(StandardCharsets.UTF_8);
+        return "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+
+    /**
+     * Whether the client's copy is still current, in which case the response is already set to 304.
+     * The tag is only looked up when the request carries If-None-Match, so unconditional requests
+     * cost nothing extra.
+     *
+     * @param etag Looks up the current tag, or returns empty if the resource does not exist
+     */
+    public static boolean notModified(WebRequest request, Supplier<Optional<String>> etag) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        return etag.get().map(request::checkNotModified).orElse(false);
+    }
+}
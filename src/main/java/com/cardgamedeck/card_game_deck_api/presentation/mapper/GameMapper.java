@@ -2,13 +2,21 @@ package com.cardgamedeck.card_game_deck_api.presentation.mapper;
 
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameReplay;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.CardDTO;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.GameDTO;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountBySuitResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountByValueResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.GameLogEntryResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.GameReplayResponse;
 
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class GameMapper {
@@ -22,7 +30,20 @@ public class GameMapper {
                 game.getId(),
                 game.getName(),
                 game.getGameDeck().getUndealtCount(),
-                game.getPlayers().size()
+                game.getPlayerCount()
+        );
+    }
+
+    public GameDTO toDTO(GameSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return new GameDTO(
+                summary.getId(),
+                summary.getName(),
+                summary.getUndealtCardCount(),
+                summary.getPlayerCount()
         );
     }
 
@@ -33,4 +54,36 @@ public class GameMapper {
     public CardCountByValueResponse toCardCountByValueResponse(Map<String, Integer> countByValue) {
         return new CardCountByValueResponse(countByValue);
     }
-}
\ No newline at end of file
+
+    public GameLogEntryResponse toLogEntryResponse(GameLogEntry entry, List<CardDTO> cardDTOs) {
+        if (entry == null) {
+            return null;
+        }
+
+        return new GameLogEntryResponse(
+                entry.getSequence(),
+                entry.getType(),
+                entry.getPlayerId(),
+                entry.getSeed(),
+                cardDTOs,
+                entry.getCreatedAt()
+        );
+    }
+
+    public GameReplayResponse toReplayResponse(UUID gameId, GameReplay replay) {
+        if (replay == null) {
+            return null;
+        }
+
+        return new GameReplayResponse(
+                gameId,
+                replay.getSequence(),
+                replay.getSnapshotSequence(),
+                replay.getReplayedEntries(),
+                replay.getCards().size(),
+                replay.getUndealtCount(),
+                replay.getHands().size(),
+                replay.getConsistent()
+        );
+    }
+}
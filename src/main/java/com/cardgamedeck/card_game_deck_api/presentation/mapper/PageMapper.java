@@ -0,0 +1,80 @@
+package com.cardgamedeck.card_game_deck_api.presentation.mapper;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.base.BaseEntity;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.PageCursor;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CursorPageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PageResponse;
+
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class PageMapper {
+
+    private static final String CURSOR_SEPARATOR = "_";
+
+    public <E, D> PageResponse<D> toPageResponse(Page<E> page, Function<? super E, ? extends D> toDTO) {
+        List<D> content = page.getContent().stream()
+                .map(toDTO)
+                .collect(Collectors.toList());
+
+        return new PageResponse<>(
+                content,
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+
+    public <E extends BaseEntity, D> CursorPageResponse<D> toCursorPageResponse(List<E> entities, int limit,
+                                                                             Function<? super E, ? extends D> toDTO) {
+        return toCursorPageResponse(entities, limit, toDTO,
+                entity -> new PageCursor(entity.getCreatedAt(), entity.getId()));
+    }
+
+    public <E, D> CursorPageResponse<D> toCursorPageResponse(List<E> rows, int limit,
+                                                            Function<? super E, ? extends D> toDTO,
+                                                            Function<? super E, PageCursor> positionOf) {
+        List<D> content = rows.stream()
+                .map(toDTO)
+                .collect(Collectors.toList());
+
+        // A short page means there is nothing left after it
+        String nextCursor = rows.size() < limit ? null : encodeCursor(positionOf.apply(rows.get(rows.size() - 1)));
+
+        return new CursorPageResponse<>(content, nextCursor);
+    }
+
+    public String encodeCursor(PageCursor cursor) {
+        String position = cursor.getCreatedAt() + CURSOR_SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public PageCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PageCursor();
+        }
+
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(CURSOR_SEPARATOR);
+
+            return new PageCursor(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+    }
+}
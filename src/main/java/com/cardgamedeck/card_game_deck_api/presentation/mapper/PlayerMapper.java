@@ -7,7 +7,7 @@ import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PlayerCards
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PlayerScoreResponse;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
+import java.util.List;
 
 @Component
 public class PlayerMapper {
@@ -20,7 +20,7 @@ public class PlayerMapper {
         return new PlayerDTO(
                 player.getId(),
                 player.getName(),
-                player.getCards().size()
+                player.getCardCount()
         );
     }
 
@@ -33,11 +33,11 @@ public class PlayerMapper {
                 player.getId(),
                 player.getName(),
                 player.getTotalValue(),
-                player.getCards().size()
+                player.getCardCount()
         );
     }
 
-    public PlayerCardsResponse toCardsResponse(Player player, Set<CardDTO> cardDTOs) {
+    public PlayerCardsResponse toCardsResponse(Player player, List<CardDTO> cardDTOs) {
         if (player == null) {
             return null;
         }
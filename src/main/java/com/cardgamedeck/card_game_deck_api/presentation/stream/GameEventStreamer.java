@@ -0,0 +1,239 @@
+package com.cardgamedeck.card_game_deck_api.presentation.stream;
+
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChange;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChangedEvent;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.GameMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PlayerMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes the changes of a game to its open server-sent event streams.
+ * <p>
+ * All streams of a game share one subscription to the game service, and each
+ * change is serialized once for all of them. Events are written by a pool of
+ * sender threads, in order per stream, so a slow client never holds up the
+ * request that changed the game. A client falling too far behind is
+ * disconnected and can reconnect to start again from the current state.
+ */
+@Component
+public class GameEventStreamer {
+
+    public static final String GAME_EVENT = "game";
+    public static final String SCORES_EVENT = "scores";
+
+    // Events a stream may have waiting to be written before it is dropped
+    private static final int MAX_PENDING_EVENTS = 256;
+
+    private final IGameService gameService;
+    private final GameMapper gameMapper;
+    private final PlayerMapper playerMapper;
+    private final ObjectWriter writer;
+    private final long timeoutMillis;
+
+    private final ConcurrentMap<UUID, GameChannel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+
+    public GameEventStreamer(IGameService gameService,
+                             GameMapper gameMapper,
+                             PlayerMapper playerMapper,
+                             ObjectMapper objectMapper,
+                             Environment environment,
+                             @Value("${card-game.events.timeout-ms:1800000}") long timeoutMillis) {
+        this.gameService = gameService;
+        this.gameMapper = gameMapper;
+        this.playerMapper = playerMapper;
+        this.writer = objectMapper.writer();
+        this.timeoutMillis = timeoutMillis;
+        // Senders mostly wait on slow clients, so they run on virtual threads whenever requests do
+        ThreadFactory threads = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("game-events-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("game-events-");
+        this.senders = Executors.newCachedThreadPool(threads);
+    }
+
+    /**
+     * Opens a stream of the changes of a game, starting with its current state.
+     */
+    public SseEmitter stream(UUID gameId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        join(gameId, subscriber);
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> leave(gameId, subscriber));
+        emitter.onTimeout(() -> leave(gameId, subscriber));
+        emitter.onError(e -> leave(gameId, subscriber));
+
+        // Read after joining, so no change is missed between the two; one may be sent twice
+        try {
+            List<Event> current = new ArrayList<>(2);
+            gameService.findSummary(gameId).ifPresent(summary -> current.add(summaryEvent(GAME_EVENT, summary)));
+            current.add(scoresEvent(gameService.getPlayersWithTotalValues(gameId)));
+            subscriber.send(current);
+        } catch (RuntimeException e) {
+            leave(gameId, subscriber);
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdown();
+    }
+
+    private void join(UUID gameId, Subscriber subscriber) {
+        channels.compute(gameId, (id, channel) -> {
+            if (channel == null) {
+                channel = new GameChannel();
+                channel.unsubscribe = gameService.subscribe(id, channel::publish);
+            }
+            channel.subscribers.add(subscriber);
+            return channel;
+        });
+    }
+
+    private void leave(UUID gameId, Subscriber subscriber) {
+        channels.computeIfPresent(gameId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            if (!channel.subscribers.isEmpty()) {
+                return channel;
+            }
+            channel.unsubscribe.run();
+            return null;
+        });
+    }
+
+    private Event summaryEvent(String name, GameSummary summary) {
+        return new Event(name, toJson(gameMapper.toDTO(summary)), false);
+    }
+
+    private Event scoresEvent(List<Player> scores) {
+        return new Event(SCORES_EVENT, toJson(scores.stream()
+                .map(playerMapper::toScoreDTO)
+                .collect(Collectors.toList())), false);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String eventName(GameChange change) {
+        return change.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private final class GameChannel {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private Runnable unsubscribe;
+
+        // Called by the game service on the committing thread: serialize once, then hand off
+        private void publish(GameChangedEvent event) {
+            List<Event> events = new ArrayList<>(2);
+            if (event.getChange() == GameChange.DELETED) {
+                events.add(new Event(eventName(GameChange.DELETED), toJson(event.getGameId()), true));
+            } else {
+                events.add(summaryEvent(eventName(event.getChange()), event.getSummary()));
+                if (event.getScores() != null) {
+                    events.add(scoresEvent(event.getScores()));
+                }
+            }
+
+            subscribers.forEach(subscriber -> subscriber.send(events));
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> pending = new LinkedBlockingQueue<>(MAX_PENDING_EVENTS);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void send(List<Event> events) {
+            for (Event event : events) {
+                if (!pending.offer(event)) {
+                    emitter.complete();
+                    return;
+                }
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Event event;
+                while ((event = pending.poll()) != null) {
+                    try {
+                        emitter.send(SseEmitter.event()
+                                .name(event.name)
+                                .data(event.json, MediaType.APPLICATION_JSON));
+                        if (event.last) {
+                            emitter.complete();
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        // The client is gone or the stream already completed
+                        pending.clear();
+                        emitter.completeWithError(e);
+                    }
+                }
+                draining.set(false);
+                // An event offered after the last poll but before the flag was reset is drained here
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+
+    private static final class Event {
+
+        private final String name;
+        private final String json;
+        private final boolean last;
+
+        private Event(String name, String json, boolean last) {
+            this.name = name;
+            this.json = json;
+            this.last = last;
+        }
+    }
+}
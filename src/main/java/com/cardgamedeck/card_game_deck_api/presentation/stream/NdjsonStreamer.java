@@ -0,0 +1,67 @@
+package com.cardgamedeck.card_game_deck_api.presentation.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Writes entities as newline-delimited JSON while they are read, so a full
+ * listing never has to be held in memory.
+ */
+@Component
+public class NdjsonStreamer {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ObjectWriter writer;
+
+    public NdjsonStreamer(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * @param source A method that feeds each entity to the given action, e.g. a service's streamAll
+     * @param toDTO The mapping applied to each entity before it is written
+     */
+    public <E> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<E>> source,
+                                                            Function<? super E, ?> toDTO) {
+        return stream(HttpStatus.OK, source, toDTO);
+    }
+
+    /**
+     * @param status The status of the response, e.g. CREATED for entities written while streaming
+     */
+    public <E> ResponseEntity<StreamingResponseBody> stream(HttpStatus status,
+                                                            Consumer<Consumer<E>> source,
+                                                            Function<? super E, ?> toDTO) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            source.accept(entity -> writeLine(out, toDTO.apply(entity)));
+            out.flush();
+        };
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object dto) {
+        try {
+            out.write(writer.writeValueAsBytes(dto));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+-- One-off upgrade of a PostgreSQL database written before cards were stored
+-- by catalogue ordinal, when every card was a row of the cards table, decks,
+-- shoes and hands were lists or sets of those rows, and a shoe kept the set
+-- of rows dealt from it.
+--
+-- Run it once, with the application stopped, before starting this version
+-- against the database:
+--
+--   psql -v ON_ERROR_STOP=1 -d carddeckgame -f legacy-card-rows.sql
+--
+-- It runs in a single transaction, so a failure leaves the database as it was.
+-- The cards table is no longer read by the application and is dropped at the end.
+
+begin;
+
+-- The catalogue ordinal of every card row: suit, then value, in enum order
+create temporary table card_ordinals on commit drop as
+select c.id as card_id,
+       (array_position(array['HEARTS', 'SPADES', 'CLUBS', 'DIAMONDS']::varchar[], c.suit::varchar) - 1) * 13
+           + array_position(array['ACE', 'TWO', 'THREE', 'FOUR', 'FIVE', 'SIX', 'SEVEN', 'EIGHT', 'NINE',
+                                  'TEN', 'JACK', 'QUEEN', 'KING']::varchar[], c.value::varchar) - 1 as card_ordinal
+from cards c;
+
+-- Decks keep their cards in the order they were read
+create table upgraded_deck_cards as
+select dc.deck_id,
+       o.card_ordinal,
+       (row_number() over (partition by dc.deck_id order by dc.ctid) - 1)::integer as position
+from deck_cards dc
+join card_ordinals o on o.card_id = dc.card_id;
+
+drop table deck_cards;
+
+alter table upgraded_deck_cards rename to deck_cards;
+alter table deck_cards alter column card_ordinal set not null;
+alter table deck_cards alter column position set not null;
+alter table deck_cards add primary key (deck_id, position);
+alter table deck_cards add foreign key (deck_id) references decks;
+
+-- Shoes: the cards already dealt come first, followed by the rest in the order
+-- the shoe was read, and the draw cursor is set after the dealt ones. The next
+-- card dealt is the one the shoe would have dealt before the upgrade.
+create table upgraded_game_deck_cards as
+select gdc.game_deck_id,
+       o.card_ordinal,
+       (row_number() over (partition by gdc.game_deck_id
+                           order by dealt.card_id is null, gdc.ctid) - 1)::integer as position,
+       dealt.card_id is not null as dealt
+from game_deck_cards gdc
+join card_ordinals o on o.card_id = gdc.card_id
+left join game_deck_dealt_cards dealt
+       on dealt.game_deck_id = gdc.game_deck_id and dealt.card_id = gdc.card_id;
+
+alter table game_decks add column if not exists draw_cursor integer default 0 not null;
+alter table game_decks add column if not exists card_count integer;
+
+update game_decks d
+set draw_cursor = (select count(*) from upgraded_game_deck_cards u where u.game_deck_id = d.id and u.dealt),
+    card_count = (select count(*) from upgraded_game_deck_cards u where u.game_deck_id = d.id);
+
+drop table game_deck_dealt_cards;
+drop table game_deck_cards;
+
+alter table upgraded_game_deck_cards rename to game_deck_cards;
+alter table game_deck_cards drop column dealt;
+alter table game_deck_cards alter column card_ordinal set not null;
+alter table game_deck_cards alter column position set not null;
+alter table game_deck_cards add primary key (game_deck_id, position);
+alter table game_deck_cards add foreign key (game_deck_id) references game_decks;
+
+-- Hands keep their cards in the order they were read, with their size and
+-- total value, the face value of a card being its value's position plus one
+create table upgraded_player_cards as
+select pc.player_id,
+       o.card_ordinal,
+       (row_number() over (partition by pc.player_id order by pc.ctid) - 1)::integer as position
+from player_cards pc
+join card_ordinals o on o.card_id = pc.card_id;
+
+alter table players add column if not exists card_count integer;
+alter table players add column if not exists total_value integer;
+
+update players p
+set card_count = (select count(*) from upgraded_player_cards u where u.player_id = p.id),
+    total_value = (select coalesce(sum(u.card_ordinal % 13 + 1), 0)
+                   from upgraded_player_cards u where u.player_id = p.id);
+
+drop table player_cards;
+
+alter table upgraded_player_cards rename to player_cards;
+alter table player_cards alter column card_ordinal set not null;
+alter table player_cards alter column position set not null;
+alter table player_cards add primary key (player_id, position);
+alter table player_cards add foreign key (player_id) references players;
+
+drop table cards;
+
+commit;
@@ -0,0 +1,76 @@
+package com.cardgamedeck.card_game_deck_api.application;
+
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.ConflictRetryAspect;
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.RetryOnConflict;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConflictRetryAspectTest {
+
+    private ConflictingService target;
+    private ConflictingService service;
+
+    @BeforeEach
+    void setUp() {
+        target = new ConflictingService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect());
+        service = factory.getProxy();
+    }
+
+    @Test
+    void retry_WithConflictsBelowMaxAttempts_ShouldReturnResult() {
+        // Given
+        target.conflictsLeft = 2;
+
+        // When
+        String result = service.update();
+
+        // Then
+        assertEquals("updated", result);
+        assertEquals(3, target.attempts);
+    }
+
+    @Test
+    void retry_WithConflictOnEveryAttempt_ShouldGiveUpAfterMaxAttempts() {
+        // Given
+        target.conflictsLeft = Integer.MAX_VALUE;
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> service.update());
+        assertEquals(3, target.attempts);
+    }
+
+    @Test
+    void retry_WithOtherException_ShouldNotRetry() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.reject());
+        assertEquals(1, target.attempts);
+    }
+
+    static class ConflictingService {
+        int conflictsLeft;
+        int attempts;
+
+        @RetryOnConflict(maxAttempts = 3)
+        public String update() {
+            attempts++;
+            if (conflictsLeft-- > 0) {
+                throw new OptimisticLockingFailureException("Row was updated by another transaction");
+            }
+            return "updated";
+        }
+
+        @RetryOnConflict
+        public String reject() {
+            attempts++;
+            throw new IllegalArgumentException("Count must be greater than zero");
+        }
+    }
+}
@@ -9,8 +9,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +27,9 @@ public class DeckServiceTest {
     @Mock
     private IDeckRepository deckRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private DeckService deckService;
 
@@ -63,6 +68,17 @@ public class DeckServiceTest {
         verify(deckRepository, times(1)).save(any(Deck.class));
     }
 
+    @Test
+    void createDecks_WithTooManyNames_ShouldThrowIllegalArgumentException() {
+        // Given
+        List<String> names = Collections.nCopies(DeckService.MAX_BULK_SIZE + 1, "Bulk Deck");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> deckService.createDecks(names, deck -> { }));
+        verify(transactionManager, never()).getTransaction(any());
+        verify(deckRepository, never()).saveAll(any());
+    }
+
     @Test
     void findDeckById_WithExistingId_ShouldReturnDeck() {
         // Given
@@ -0,0 +1,105 @@
+package com.cardgamedeck.card_game_deck_api.application;
+
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChange;
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChangedEvent;
+import com.cardgamedeck.card_game_deck_api.application.impl.event.GameEventHub;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class GameEventHubTest {
+
+    private GameEventHub hub;
+    private Game game;
+    private UUID gameId;
+    private List<GameChangedEvent> received;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        hub = new GameEventHub();
+        game = new Game("Evented Game");
+        gameId = UUID.randomUUID();
+        TestUtils.setPrivateId(game, gameId);
+        game.addPlayer(new Player("Evented Player"));
+        received = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_WithoutSubscribers_ShouldNotReadTheGame() {
+        // Given
+        Game unwatched = mock(Game.class);
+
+        // When
+        hub.publish(gameId, GameChange.DEALT, unwatched);
+
+        // Then
+        assertFalse(hub.hasSubscribers(gameId));
+        verifyNoInteractions(unwatched);
+    }
+
+    @Test
+    void publish_ShouldOnlyCarryScoresForChangesToThem() {
+        // Given
+        hub.subscribe(gameId, received::add);
+
+        // When
+        hub.publish(gameId, GameChange.DEALT, game);
+        hub.publish(gameId, GameChange.SHUFFLED, game);
+
+        // Then
+        assertEquals(2, received.size());
+        assertEquals(1, received.get(0).getSummary().getPlayerCount());
+        assertEquals(1, received.get(0).getScores().size());
+        assertNull(received.get(1).getScores());
+    }
+
+    @Test
+    void publish_InTransaction_ShouldDeliverOnlyAfterCommit() {
+        // Given
+        hub.subscribe(gameId, received::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        hub.publish(gameId, GameChange.PLAYER_JOINED, game);
+
+        // Then
+        assertTrue(received.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, received.size());
+        assertEquals(GameChange.PLAYER_JOINED, received.get(0).getChange());
+    }
+
+    @Test
+    void subscribe_WhenCancelled_ShouldStopDeliveringAndForgetTheGame() {
+        // Given
+        Runnable unsubscribe = hub.subscribe(gameId, received::add);
+
+        // When
+        unsubscribe.run();
+        hub.publish(gameId, GameChange.DELETED, null);
+
+        // Then
+        assertTrue(received.isEmpty());
+        assertFalse(hub.hasSubscribers(gameId));
+    }
+}
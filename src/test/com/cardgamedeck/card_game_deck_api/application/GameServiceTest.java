@@ -1,8 +1,14 @@
 package com.cardgamedeck.card_game_deck_api.application;
 
+import com.cardgamedeck.card_game_deck_api.application.api.event.GameChange;
 import com.cardgamedeck.card_game_deck_api.application.impl.DeckService;
 import com.cardgamedeck.card_game_deck_api.application.impl.GameService;
 import com.cardgamedeck.card_game_deck_api.application.impl.PlayerService;
+import com.cardgamedeck.card_game_deck_api.application.impl.concurrency.GameLocks;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
+import com.cardgamedeck.card_game_deck_api.application.impl.event.GameEventHub;
+import com.cardgamedeck.card_game_deck_api.application.impl.log.GameLog;
+import com.cardgamedeck.card_game_deck_api.application.impl.metrics.GameMetrics;
 import com.cardgamedeck.card_game_deck_api.domain.model.Card;
 import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
@@ -10,20 +16,28 @@ import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Value;
 import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 import utils.TestUtils;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +52,24 @@ public class GameServiceTest {
     @Mock
     private PlayerService playerService;
 
+    @Mock
+    private HotGameStore hotGameStore;
+
+    @Mock
+    private GameLocks gameLocks;
+
+    @Mock
+    private GameMetrics gameMetrics;
+
+    @Mock
+    private GameEventHub gameEventHub;
+
+    @Mock
+    private GameLog gameLog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private GameService gameService;
 
@@ -84,7 +116,7 @@ public class GameServiceTest {
     @Test
     void addDeckToGame_WithValidIds_ShouldAddDeckToGame() {
         // Given
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(deckService.findById(deckId)).thenReturn(Optional.of(testDeck));
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
 
@@ -93,7 +125,7 @@ public class GameServiceTest {
 
         // Then
         assertNotNull(result);
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(deckService, times(1)).findById(deckId);
         verify(gameRepository, times(1)).save(testGame);
     }
@@ -102,13 +134,13 @@ public class GameServiceTest {
     void addDeckToGame_WithInvalidGameId_ShouldThrowEntityNotFoundException() {
         // Given
         UUID invalidGameId = UUID.randomUUID();
-        when(gameRepository.findById(invalidGameId)).thenReturn(Optional.empty());
+        when(gameRepository.findWithDeckAndPlayersById(invalidGameId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(EntityNotFoundException.class, () ->
                 gameService.addDeckToGame(invalidGameId, deckId)
         );
-        verify(gameRepository, times(1)).findById(invalidGameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(invalidGameId);
         verify(deckService, never()).findById(any(UUID.class));
         verify(gameRepository, never()).save(any(Game.class));
     }
@@ -117,22 +149,83 @@ public class GameServiceTest {
     void addDeckToGame_WithInvalidDeckId_ShouldThrowEntityNotFoundException() {
         // Given
         UUID invalidDeckId = UUID.randomUUID();
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(deckService.findById(invalidDeckId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(EntityNotFoundException.class, () ->
                 gameService.addDeckToGame(gameId, invalidDeckId)
         );
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(deckService, times(1)).findById(invalidDeckId);
         verify(gameRepository, never()).save(any(Game.class));
     }
 
+    @Test
+    void addDecksToGame_WithValidIds_ShouldShuffleAndSaveOnce() {
+        // Given
+        UUID secondDeckId = UUID.randomUUID();
+        Deck secondDeck = new Deck("Second Deck");
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+        when(deckService.findById(deckId)).thenReturn(Optional.of(testDeck));
+        when(deckService.findById(secondDeckId)).thenReturn(Optional.of(secondDeck));
+        when(gameRepository.save(any(Game.class))).thenReturn(testGame);
+
+        // When
+        Game result = gameService.addDecksToGame(gameId, List.of(deckId, secondDeckId));
+
+        // Then
+        assertNotNull(result);
+        assertEquals(104, testGame.getGameDeck().getCardCount());
+        verify(gameMetrics, times(1)).recordShuffle(eq(testGame), anyLong());
+        verify(gameRepository, times(1)).save(testGame);
+    }
+
+    @Test
+    void addDecksToGame_WithInvalidDeckId_ShouldThrowEntityNotFoundException() {
+        // Given
+        UUID invalidDeckId = UUID.randomUUID();
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+        when(deckService.findById(deckId)).thenReturn(Optional.of(testDeck));
+        when(deckService.findById(invalidDeckId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () ->
+                gameService.addDecksToGame(gameId, List.of(deckId, invalidDeckId))
+        );
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
+    @Test
+    void addStandardDecksToGame_WithValidCount_ShouldBuildShoeWithoutDecks() {
+        // Given
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.save(any(Game.class))).thenReturn(testGame);
+
+        // When
+        Game result = gameService.addStandardDecksToGame(gameId, 8);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(416, testGame.getGameDeck().getUndealtCount());
+        verify(deckService, never()).findById(any(UUID.class));
+        verify(gameMetrics, times(1)).recordShuffle(eq(testGame), anyLong());
+        verify(gameRepository, times(1)).save(testGame);
+    }
+
+    @Test
+    void addStandardDecksToGame_WithTooManyDecks_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+                gameService.addStandardDecksToGame(gameId, GameService.MAX_SHOE_DECKS + 1)
+        );
+        verify(gameRepository, never()).findWithDeckAndPlayersById(any(UUID.class));
+    }
+
     @Test
     void addPlayerToGame_WithValidIds_ShouldAddPlayerToGame() {
         // Given
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
 
@@ -141,7 +234,7 @@ public class GameServiceTest {
 
         // Then
         assertNotNull(result);
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(playerService, times(1)).findById(playerId);
         verify(gameRepository, times(1)).save(testGame);
     }
@@ -151,7 +244,7 @@ public class GameServiceTest {
         // Given
         testGame.addPlayer(testPlayer);
 
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
 
@@ -161,7 +254,7 @@ public class GameServiceTest {
         // Then
         assertNotNull(result);
         assertFalse(result.getPlayers().contains(testPlayer));
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(playerService, times(1)).findById(playerId);
         verify(gameRepository, times(1)).save(testGame);
     }
@@ -171,14 +264,14 @@ public class GameServiceTest {
         // Given
         // Player not added to game
 
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () ->
                 gameService.removePlayerFromGame(gameId, playerId)
         );
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(playerService, times(1)).findById(playerId);
         verify(gameRepository, never()).save(any(Game.class));
     }
@@ -191,7 +284,7 @@ public class GameServiceTest {
         Deck testDeck = new Deck("Test Deck");
         testGame.addDeck(testDeck);
 
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
 
@@ -200,7 +293,7 @@ public class GameServiceTest {
 
         // Then
         assertNotNull(result);
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(playerService, times(1)).findById(playerId);
         verify(gameRepository, times(1)).save(testGame);
     }
@@ -215,7 +308,7 @@ public class GameServiceTest {
         assertThrows(IllegalArgumentException.class, () ->
                 gameService.dealCardsToPlayer(gameId, playerId, negativeCount)
         );
-        verify(gameRepository, never()).findById(any(UUID.class));
+        verify(gameRepository, never()).findWithDeckAndPlayersById(any(UUID.class));
         verify(playerService, never()).findById(any(UUID.class));
         verify(gameRepository, never()).save(any(Game.class));
     }
@@ -225,18 +318,73 @@ public class GameServiceTest {
         // Given
         // Player not added to game
 
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
         when(playerService.findById(playerId)).thenReturn(Optional.of(testPlayer));
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () ->
                 gameService.dealCardsToPlayer(gameId, playerId, 5)
         );
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
         verify(playerService, times(1)).findById(playerId);
         verify(gameRepository, never()).save(any(Game.class));
     }
 
+    @Test
+    void dealRound_WithValidParameters_ShouldDealRoundRobinAndSaveOnce() {
+        // Given
+        Player secondPlayer = new Player("Second Player");
+        UUID secondPlayerId = UUID.randomUUID();
+        TestUtils.setPrivateId(secondPlayer, secondPlayerId);
+
+        testGame.addPlayer(testPlayer);
+        testGame.addPlayer(secondPlayer);
+        testGame.addDeck(testDeck);
+
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.save(any(Game.class))).thenReturn(testGame);
+
+        // When
+        Game result = gameService.dealRound(gameId, List.of(playerId, secondPlayerId), 3);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(3, testPlayer.getCards().size());
+        assertEquals(3, secondPlayer.getCards().size());
+        assertEquals(46, testGame.getGameDeck().getUndealtCount());
+        verify(gameRepository, times(1)).findWithDeckAndPlayersById(gameId);
+        verify(playerService, never()).findById(any(UUID.class));
+        verify(gameRepository, times(1)).save(testGame);
+        verify(gameMetrics, times(1)).recordDeal(testGame, 6);
+        verify(gameEventHub, times(1)).publish(gameId, GameChange.DEALT, testGame);
+    }
+
+    @Test
+    void dealRound_WithPlayerNotInGame_ShouldThrowIllegalArgumentException() {
+        // Given
+        // Player not added to game
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+                gameService.dealRound(gameId, List.of(playerId), 2)
+        );
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
+    @Test
+    void dealRound_WithNotEnoughCards_ShouldThrowIllegalArgumentException() {
+        // Given
+        testGame.addPlayer(testPlayer);
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+                gameService.dealRound(gameId, List.of(playerId), 2)
+        );
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
     @Test
     void getPlayersWithTotalValues_ShouldReturnPlayersInDescendingOrderByTotalValue() {
         // Create game and players
@@ -252,20 +400,14 @@ public class GameServiceTest {
         TestUtils.setPrivateId(player3, UUID.randomUUID());
 
         // Create cards with unique IDs
-        Card card1ForPlayer1 = new Card(Suit.HEARTS, Value.KING); // 13 points
-        Card card2ForPlayer1 = new Card(Suit.CLUBS, Value.TWO);   // 2 points
-        Card card1ForPlayer2 = new Card(Suit.DIAMONDS, Value.QUEEN); // 12 points
-        Card card2ForPlayer2 = new Card(Suit.SPADES, Value.JACK);    // 11 points
-        Card card1ForPlayer3 = new Card(Suit.CLUBS, Value.FIVE); // 5 points
-        Card card2ForPlayer3 = new Card(Suit.HEARTS, Value.FOUR); // 4 points
+        Card card1ForPlayer1 = Card.of(Suit.HEARTS, Value.KING); // 13 points
+        Card card2ForPlayer1 = Card.of(Suit.CLUBS, Value.TWO);   // 2 points
+        Card card1ForPlayer2 = Card.of(Suit.DIAMONDS, Value.QUEEN); // 12 points
+        Card card2ForPlayer2 = Card.of(Suit.SPADES, Value.JACK);    // 11 points
+        Card card1ForPlayer3 = Card.of(Suit.CLUBS, Value.FIVE); // 5 points
+        Card card2ForPlayer3 = Card.of(Suit.HEARTS, Value.FOUR); // 4 points
 
         // Assign unique IDs to cards for testing
-        TestUtils.setPrivateId(card1ForPlayer1, UUID.randomUUID());
-        TestUtils.setPrivateId(card2ForPlayer1, UUID.randomUUID());
-        TestUtils.setPrivateId(card1ForPlayer2, UUID.randomUUID());
-        TestUtils.setPrivateId(card2ForPlayer2, UUID.randomUUID());
-        TestUtils.setPrivateId(card1ForPlayer3, UUID.randomUUID());
-        TestUtils.setPrivateId(card2ForPlayer3, UUID.randomUUID());
 
         // Add cards to players
         player1.addCard(card1ForPlayer1);
@@ -280,7 +422,7 @@ public class GameServiceTest {
         game.addPlayer(player2);
         game.addPlayer(player3);
 
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        when(gameRepository.findWithPlayersById(gameId)).thenReturn(Optional.of(game));
 
         // When
         List<Player> result = gameService.getPlayersWithTotalValues(gameId);
@@ -295,14 +437,14 @@ public class GameServiceTest {
     @Test
     void getUndealtCardsBySuit_ShouldReturnMapOfSuitCounts() {
         // Given
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findWithGameDeckById(gameId)).thenReturn(Optional.of(testGame));
 
         // When
         Map<Suit, Integer> result = gameService.getUndealtCardsBySuit(gameId);
 
         // Then
         assertNotNull(result);
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithGameDeckById(gameId);
     }
 
     @Test
@@ -318,7 +460,7 @@ public class GameServiceTest {
         expectedCounts.put(Suit.DIAMONDS, 13); // 13 diamonds undealt
 
         // Configure mock behavior
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
+        when(gameRepository.findWithGameDeckById(gameId)).thenReturn(Optional.of(mockGame));
         when(mockGame.getUndealtCardsBySuit()).thenReturn(expectedCounts);
 
         // When
@@ -327,7 +469,7 @@ public class GameServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedCounts, result);
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithGameDeckById(gameId);
         verify(mockGame, times(1)).getUndealtCardsBySuit();
     }
 
@@ -345,7 +487,7 @@ public class GameServiceTest {
         expectedCounts.put("DIAMONDS-TWO", 1);
 
         // Configure mock behavior
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
+        when(gameRepository.findWithGameDeckById(gameId)).thenReturn(Optional.of(mockGame));
         when(mockGame.getUndealtCardsBySuitAndValue()).thenReturn(expectedCounts);
 
         // When
@@ -354,8 +496,117 @@ public class GameServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedCounts, result);
-        verify(gameRepository, times(1)).findById(gameId);
+        verify(gameRepository, times(1)).findWithGameDeckById(gameId);
         verify(mockGame, times(1)).getUndealtCardsBySuitAndValue();
     }
 
-}
\ No newline at end of file
+    @Test
+    void findSummariesAfter_WithoutPosition_ShouldReadFirstPage() {
+        // Given
+        GameSummary summary = mock(GameSummary.class);
+        when(gameRepository.findFirstGameSummaries(any(Pageable.class))).thenReturn(List.of(summary));
+
+        // When
+        List<GameSummary> result = gameService.findSummariesAfter(null, null, 10);
+
+        // Then
+        assertEquals(List.of(summary), result);
+        verify(gameRepository, never()).findGameSummariesAfter(any(), any(), any());
+    }
+
+    @Test
+    void findSummariesAfter_WithPosition_ShouldResumeAfterIt() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(gameRepository.findGameSummariesAfter(eq(createdAt), eq(gameId), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        List<GameSummary> result = gameService.findSummariesAfter(createdAt, gameId, 10);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(gameRepository, never()).findFirstGameSummaries(any());
+    }
+
+    @Test
+    void findSummaryPage_WithOversizedPage_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> gameService.findSummaryPage(0, 501));
+        verify(gameRepository, never()).findGameSummaryPage(any());
+    }
+
+    @Test
+    void dealCardsToPlayer_WithHotGamesEnabled_ShouldDealInMemory() {
+        // Given
+        testGame.addPlayer(testPlayer);
+        testGame.addDeck(testDeck);
+        runHotGamesOn(testGame);
+
+        // When
+        Game result = gameService.dealCardsToPlayer(gameId, playerId, 5);
+
+        // Then
+        assertSame(testGame, result);
+        assertEquals(5, testPlayer.getCards().size());
+        verify(hotGameStore, times(1)).update(eq(gameId), any());
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void dealCardsToPlayer_WithHotGamesEnabledAndUnknownPlayer_ShouldThrowEntityNotFoundException() {
+        // Given
+        testGame.addDeck(testDeck);
+        runHotGamesOn(testGame);
+        when(playerService.existsById(playerId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () ->
+                gameService.dealCardsToPlayer(gameId, playerId, 5)
+        );
+        assertEquals(52, testGame.getGameDeck().getUndealtCount());
+    }
+
+    @Test
+    void getPlayersWithTotalValues_WithHotGamesEnabled_ShouldReturnSnapshots() {
+        // Given
+        testGame.addPlayer(testPlayer);
+        testPlayer.addCard(Card.of(Suit.HEARTS, Value.KING));
+        runHotGamesOn(testGame);
+
+        // When
+        List<Player> result = gameService.getPlayersWithTotalValues(gameId);
+        testPlayer.addCard(Card.of(Suit.HEARTS, Value.ACE));
+
+        // Then
+        assertEquals(1, result.size());
+        assertNotSame(testPlayer, result.get(0));
+        assertEquals(playerId, result.get(0).getId());
+        assertEquals(Value.KING.getFaceValue(), result.get(0).getTotalValue());
+    }
+
+    @Test
+    void addDeckToGame_WithHotGamesEnabled_ShouldEvictTheGameFirst() {
+        // Given
+        when(gameRepository.findWithDeckAndPlayersById(gameId)).thenReturn(Optional.of(testGame));
+        when(deckService.findById(deckId)).thenReturn(Optional.of(testDeck));
+        when(gameRepository.save(any(Game.class))).thenReturn(testGame);
+
+        // When
+        gameService.addDeckToGame(gameId, deckId);
+
+        // Then
+        InOrder inOrder = inOrder(hotGameStore, gameRepository);
+        inOrder.verify(hotGameStore).evict(gameId);
+        inOrder.verify(gameRepository).findWithDeckAndPlayersById(gameId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runHotGamesOn(Game game) {
+        when(hotGameStore.isEnabled()).thenReturn(true);
+        lenient().when(hotGameStore.update(eq(game.getId()), any()))
+                .thenAnswer(invocation -> ((Function<Game, ?>) invocation.getArgument(1)).apply(game));
+        lenient().when(hotGameStore.read(eq(game.getId()), any()))
+                .thenAnswer(invocation -> ((Function<Game, ?>) invocation.getArgument(1)).apply(game));
+    }
+}
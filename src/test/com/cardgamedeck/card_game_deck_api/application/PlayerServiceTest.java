@@ -3,6 +3,7 @@ package com.cardgamedeck.card_game_deck_api.application;
 import com.cardgamedeck.card_game_deck_api.domain.model.Card;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.application.impl.PlayerService;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Value;
 import com.cardgamedeck.card_game_deck_api.domain.repository.IPlayerRepository;
@@ -16,9 +17,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import utils.TestUtils;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,12 +32,15 @@ public class PlayerServiceTest {
     @Mock
     private IPlayerRepository playerRepository;
 
+    @Mock
+    private HotGameStore hotGameStore;
+
     @InjectMocks
     private PlayerService playerService;
 
     private UUID playerId;
     private Player testPlayer;
-    private Set<Card> testCards;
+    private List<Card> testCards;
 
     @BeforeEach
     void setUp() {
@@ -46,11 +50,9 @@ public class PlayerServiceTest {
         TestUtils.setPrivateId(testPlayer, playerId);
 
         // Create test cards
-        testCards = new HashSet<>();
-        Card card1 = new Card(Suit.HEARTS, Value.ACE);
-        Card card2 = new Card(Suit.SPADES, Value.KING);
-        TestUtils.setPrivateId(card1, UUID.randomUUID());
-        TestUtils.setPrivateId(card2, UUID.randomUUID());
+        testCards = new ArrayList<>();
+        Card card1 = Card.of(Suit.HEARTS, Value.ACE);
+        Card card2 = Card.of(Suit.SPADES, Value.KING);
 
         // Add cards to player
         testPlayer.addCard(card1);
@@ -83,7 +85,7 @@ public class PlayerServiceTest {
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
 
         // When
-        Set<Card> result = playerService.getPlayerCards(playerId);
+        List<Card> result = playerService.getPlayerCards(playerId);
 
         // Then
         assertNotNull(result);
@@ -144,6 +146,7 @@ public class PlayerServiceTest {
         assertNotNull(result);
         assertEquals(0, result.getCards().size());
         verify(playerRepository, times(1)).findById(playerId);
+        verify(hotGameStore, times(1)).evictGamesOf(playerId);
         verify(playerRepository, times(1)).save(testPlayer);
     }
 
@@ -0,0 +1,85 @@
+package com.cardgamedeck.card_game_deck_api.application;
+
+import com.cardgamedeck.card_game_deck_api.application.impl.DeckService;
+import com.cardgamedeck.card_game_deck_api.application.impl.metrics.ServiceMetricsAspect;
+import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IDeckRepository;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private IDeckRepository deckRepository;
+    private DeckService deckService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        deckRepository = mock(IDeckRepository.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new DeckService(deckRepository,
+                mock(PlatformTransactionManager.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        deckService = factory.getProxy();
+    }
+
+    @Test
+    void time_WithSuccessfulOperation_ShouldRecordItUnderTheService() {
+        // Given
+        when(deckRepository.save(any(Deck.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        deckService.createDeck("Timed Deck");
+        deckService.createDeck("Second Timed Deck");
+
+        // Then
+        Timer timer = registry.get("cardgame.service.operation")
+                .tags("service", "DeckService", "operation", "createDeck", "outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void time_WithInheritedOperation_ShouldRecordItUnderTheConcreteService() {
+        // Given
+        UUID deckId = UUID.randomUUID();
+        when(deckRepository.findById(deckId)).thenReturn(Optional.empty());
+
+        // When
+        deckService.findById(deckId);
+
+        // Then
+        assertEquals(1, registry.get("cardgame.service.operation")
+                .tags("service", "DeckService", "operation", "findById")
+                .timer().count());
+    }
+
+    @Test
+    void time_WithFailingOperation_ShouldTagTheException() {
+        // Given
+        UUID deckId = UUID.randomUUID();
+        when(deckRepository.findById(deckId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> deckService.deleteDeck(deckId));
+        assertEquals(1, registry.get("cardgame.service.operation")
+                .tags("operation", "deleteDeck", "outcome", "EntityNotFoundException")
+                .timer().count());
+    }
+}
@@ -43,4 +43,20 @@ public class DeckTest {
         }
     }
 
+    @Test
+    void initialize_ShouldReuseSharedCatalogueCards() {
+        // Given
+        Deck first = new Deck("First Deck");
+        Deck second = new Deck("Second Deck");
+
+        // When
+        first.initialize();
+
+        // Then
+        assertEquals(Card.catalogue(), first.getCards());
+        for (int i = 0; i < 52; i++) {
+            assertSame(first.getCards().get(i), second.getCards().get(i));
+        }
+    }
+
 }
\ No newline at end of file
@@ -3,9 +3,15 @@ package domain;
 import com.cardgamedeck.card_game_deck_api.domain.model.Card;
 import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
 import com.cardgamedeck.card_game_deck_api.domain.model.GameDeck;
+import com.cardgamedeck.card_game_deck_api.domain.model.ShuffleRecord;
+import com.cardgamedeck.card_game_deck_api.domain.model.converter.CompactCardState;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Value;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.FastShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.SecureShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategies;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import utils.TestUtils;
@@ -14,6 +20,11 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public class GameDeckTest {
 
@@ -32,9 +43,12 @@ public class GameDeckTest {
 
         // Save the original order of cards
         originalOrder = new ArrayList<>(gameDeck.getCards());
+    }
 
-        // Set unique IDs for each card to ensure proper equality checks
-        setUniqueIdsForCards(originalOrder);
+    @AfterEach
+    void tearDown() {
+        CompactCardState.setEnabled(false);
+        ShuffleStrategies.use(new FastShuffleStrategy());
     }
 
     @Test
@@ -50,7 +64,7 @@ public class GameDeckTest {
     }
 
     @Test
-    void addMultipleDecks_ShouldAddCorrectNumberOfUniqueCards() {
+    void addMultipleDecks_ShouldReferenceTheSharedCardCatalogue() {
         // Given
         GameDeck multiDeckGameDeck = new GameDeck(null);
         Deck deck2 = new Deck("Test Deck 2");
@@ -63,17 +77,15 @@ public class GameDeckTest {
         assertEquals(104, multiDeckGameDeck.getCards().size(),
                 "GameDeck should contain 104 cards after adding two 52-card decks");
 
-        // Verify unique decks
+        // Verify both decks reference the same catalogue cards
         List<Card> deck1Cards = deck.getCards();
         List<Card> deck2Cards = deck2.getCards();
 
         assertEquals(104, multiDeckGameDeck.getCards().size());
-        // Ensure cards from different decks are not identical
-        for (Card card1 : deck1Cards) {
-            for (Card card2 : deck2Cards) {
-                assertNotEquals(card1, card2,
-                        "Cards from different decks should not be the same object");
-            }
+        assertEquals(52, new HashSet<>(multiDeckGameDeck.getCards()).size());
+        for (int i = 0; i < deck1Cards.size(); i++) {
+            assertSame(deck1Cards.get(i), deck2Cards.get(i),
+                    "Cards from different decks should be the same catalogue instance");
         }
     }
 
@@ -146,6 +158,53 @@ public class GameDeckTest {
         assertTrue(gameDeck.getDealtCards().contains(card2));
     }
 
+    @Test
+    void returnCards_ShouldMakeReturnedCardsDealableAgain() {
+        // Given
+        Card card1 = gameDeck.dealCard();
+        gameDeck.dealCard();
+        gameDeck.dealCard();
+
+        // When
+        gameDeck.returnCards(Set.of(card1));
+
+        // Then
+        assertEquals(50, gameDeck.getUndealtCount());
+        assertEquals(2, gameDeck.getDrawCursor());
+        assertTrue(gameDeck.getUndealtCards().contains(card1));
+        assertEquals(card1, gameDeck.dealCard());
+    }
+
+    @Test
+    void returnCards_WithCardNotDealt_ShouldIgnoreIt() {
+        // Given
+        gameDeck.dealCard();
+        Card undealtCard = originalOrder.get(10);
+
+        // When
+        gameDeck.returnCards(Set.of(undealtCard));
+
+        // Then
+        assertEquals(1, gameDeck.getDrawCursor());
+        assertEquals(51, gameDeck.getUndealtCount());
+    }
+
+    @Test
+    void shuffle_WithSomeDealtCards_ShouldOnlyReorderUndealtCards() {
+        // Given
+        Card card1 = gameDeck.dealCard();
+        Card card2 = gameDeck.dealCard();
+
+        // When
+        gameDeck.shuffle();
+
+        // Then
+        List<Card> afterShuffle = gameDeck.getCards();
+        assertEquals(card1, afterShuffle.get(0));
+        assertEquals(card2, afterShuffle.get(1));
+        assertEquals(new HashSet<>(originalOrder.subList(2, 52)), new HashSet<>(gameDeck.getUndealtCards()));
+    }
+
     @Test
     void shuffle_ShouldChangeCardOrder() {
         // Given
@@ -188,10 +247,6 @@ public class GameDeckTest {
         Deck firstDeck = new Deck("First Deck");
         Deck secondDeck = new Deck("Second Deck");
 
-        // Set unique IDs for cards in both decks
-        firstDeck.getCards().forEach(card -> TestUtils.setPrivateId(card, UUID.randomUUID()));
-        secondDeck.getCards().forEach(card -> TestUtils.setPrivateId(card, UUID.randomUUID()));
-
         // Add two decks to the game deck (104 cards total)
         twoDeckGame.addDeck(firstDeck);
         twoDeckGame.addDeck(secondDeck);
@@ -297,6 +352,218 @@ public class GameDeckTest {
         assertEquals(1, result.getOrDefault("HEARTS-KING", 0));
     }
 
+    @Test
+    void compactState_ShouldStoreDrawOrderAsOneBytePerCard() {
+        // Given
+        CompactCardState.setEnabled(true);
+        GameDeck compactDeck = new GameDeck(null);
+
+        // When
+        compactDeck.addDeck(deck);
+        compactDeck.shuffle();
+        compactDeck.dealCard();
+
+        // Then
+        byte[] cardOrder = (byte[]) TestUtils.getPrivateField(compactDeck, "cardOrder");
+        assertEquals(52, cardOrder.length);
+        assertEquals(compactDeck.getCards(), CompactCardState.decode(cardOrder));
+        assertTrue(((List<?>) TestUtils.getPrivateField(compactDeck, "storedCards")).isEmpty());
+    }
+
+    @Test
+    void compactState_WhenEnabledAfterLoad_ShouldMoveJoinTableShoeToCompactColumn() {
+        // Given a shoe stored in the join table
+        gameDeck.dealCard();
+        List<Card> order = gameDeck.getCards();
+
+        // When it is reloaded with compact state enabled
+        CompactCardState.setEnabled(true);
+        TestUtils.setPrivateField(gameDeck, "cards", null);
+
+        // Then
+        assertEquals(order, gameDeck.getCards());
+        assertEquals(51, gameDeck.getUndealtCount());
+        assertEquals(order, CompactCardState.decode((byte[]) TestUtils.getPrivateField(gameDeck, "cardOrder")));
+        assertTrue(((List<?>) TestUtils.getPrivateField(gameDeck, "storedCards")).isEmpty());
+    }
+
+    @Test
+    void copyStateFrom_ShouldTakeOrderAndCursorOfTheOtherCopy() {
+        // Given a copy of the shoe that was shuffled and dealt from
+        GameDeck copy = new GameDeck(null);
+        copy.addDeck(deck);
+        copy.shuffle();
+        copy.dealCard();
+        copy.dealCard();
+
+        // When
+        gameDeck.copyStateFrom(copy);
+
+        // Then
+        assertEquals(copy.getCards(), gameDeck.getCards());
+        assertEquals(2, gameDeck.getDrawCursor());
+        assertEquals(50, gameDeck.getUndealtCount());
+    }
+
+    @Test
+    void copyStateFrom_LaterCopy_ShouldOnlyWriteWhatChanged() {
+        // Given a later copy of the shoe, dealt from and shuffled once more
+        gameDeck.shuffle();
+        GameDeck copy = new GameDeck(null);
+        copy.copyStateFrom(gameDeck);
+        copy.dealCard();
+        copy.dealCard();
+        copy.shuffle();
+
+        List<Card> storedCards = spy(new ArrayList<>(gameDeck.getCards()));
+        List<ShuffleRecord> shuffles = spy(new ArrayList<>(gameDeck.getShuffles()));
+        TestUtils.setPrivateField(gameDeck, "storedCards", storedCards);
+        TestUtils.setPrivateField(gameDeck, "cards", storedCards);
+        TestUtils.setPrivateField(gameDeck, "shuffles", shuffles);
+
+        // When
+        gameDeck.copyStateFrom(copy);
+
+        // Then the dealt positions are left alone and only the new shuffle is added
+        assertEquals(copy.getCards(), gameDeck.getCards());
+        assertEquals(copy.getShuffles(), gameDeck.getShuffles());
+        verify(storedCards, never()).clear();
+        verify(storedCards, never()).set(eq(0), any());
+        verify(storedCards, never()).set(eq(1), any());
+        verify(shuffles, never()).clear();
+        verify(shuffles).addAll(List.of(copy.getShuffles().get(1)));
+    }
+
+    @Test
+    void undealtCounts_AfterDealsReturnsAndAddedDeck_ShouldMatchUndealtCards() {
+        // Given
+        Card first = gameDeck.dealCard();
+        gameDeck.dealCard();
+        gameDeck.dealCard();
+        gameDeck.returnCards(List.of(first));
+        gameDeck.addDeck(new Deck("Second Deck"));
+
+        // When
+        Map<Suit, Integer> bySuit = gameDeck.getUndealtCardsBySuit();
+        Map<String, Integer> byCard = gameDeck.getUndealtCardsBySuitAndValue();
+
+        // Then
+        Map<Suit, Long> expectedBySuit = gameDeck.getUndealtCards().stream()
+                .collect(Collectors.groupingBy(Card::getSuit, Collectors.counting()));
+        for (Suit suit : Suit.values()) {
+            assertEquals(expectedBySuit.get(suit).intValue(), bySuit.get(suit));
+        }
+        assertEquals(102, byCard.values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(2, byCard.get(first.getSuit() + "-" + first.getValue()));
+    }
+
+    @Test
+    void getUndealtCardsBySuitAndValue_ShouldListCardsBySuitThenHighestValueFirst() {
+        // When
+        List<String> keys = new ArrayList<>(gameDeck.getUndealtCardsBySuitAndValue().keySet());
+
+        // Then
+        assertEquals(52, keys.size());
+        assertEquals("HEARTS-KING", keys.get(0));
+        assertEquals("HEARTS-ACE", keys.get(12));
+        assertEquals("SPADES-KING", keys.get(13));
+        assertEquals("DIAMONDS-ACE", keys.get(51));
+    }
+
+    @Test
+    void undealtCounts_OfShoeStoredWithoutCounts_ShouldBeCountedFromTheShoe() {
+        // Given a shoe stored before the counts were kept
+        gameDeck.dealCard();
+        TestUtils.setPrivateField(gameDeck, "undealtCounts", null);
+        TestUtils.setPrivateField(gameDeck, "undealtBySuit", null);
+
+        // When
+        Map<Suit, Integer> bySuit = gameDeck.getUndealtCardsBySuit();
+        gameDeck.dealCard();
+
+        // Then
+        assertEquals(51, bySuit.values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(50, gameDeck.getUndealtCardsBySuit().values().stream().mapToInt(Integer::intValue).sum());
+        assertNotNull(TestUtils.getPrivateField(gameDeck, "undealtCounts"));
+    }
+
+    @Test
+    void replayOrder_AfterShufflesDealsAndAddedDecks_ShouldRebuildDrawOrder() {
+        // Given
+        gameDeck.shuffle();
+        gameDeck.dealCard();
+        gameDeck.dealCard();
+        gameDeck.addDeck(new Deck("Second Deck"));
+        gameDeck.shuffle();
+        gameDeck.addDeck(new Deck("Third Deck"));
+
+        // When
+        List<Card> replayed = gameDeck.replayOrder();
+
+        // Then
+        assertTrue(gameDeck.isReplayable());
+        assertEquals(2, gameDeck.getShuffles().size());
+        assertEquals(gameDeck.getCards(), replayed);
+    }
+
+    @Test
+    void addStandardDecks_ShouldMatchAddingTheSameNumberOfDecks() {
+        // Given
+        GameDeck fromDecks = new GameDeck(null);
+        for (int i = 0; i < 8; i++) {
+            fromDecks.addDeck(new Deck("Deck " + i));
+        }
+        GameDeck standard = new GameDeck(null);
+
+        // When
+        standard.addStandardDecks(8);
+
+        // Then
+        assertEquals(416, standard.getCardCount());
+        assertEquals(fromDecks.getCards(), standard.getCards());
+        assertEquals(fromDecks.getUndealtCardsBySuitAndValue(), standard.getUndealtCardsBySuitAndValue());
+        assertEquals(104, standard.getUndealtCardsBySuit().get(Suit.SPADES));
+    }
+
+    @Test
+    void replayOrder_OfStandardDecksShuffledOnce_ShouldRebuildDrawOrder() {
+        // Given
+        GameDeck shoe = new GameDeck(null);
+        shoe.addStandardDecks(8);
+        shoe.shuffle();
+
+        // When
+        List<Card> replayed = shoe.replayOrder();
+
+        // Then
+        assertEquals(1, shoe.getShuffles().size());
+        assertEquals(shoe.getCards(), replayed);
+    }
+
+    @Test
+    void replayOrder_AfterCardsWereReturned_ShouldThrowIllegalStateException() {
+        // Given
+        gameDeck.shuffle();
+        Card dealt = gameDeck.dealCard();
+        gameDeck.returnCards(List.of(dealt));
+
+        // When & Then
+        assertFalse(gameDeck.isReplayable());
+        assertThrows(IllegalStateException.class, () -> gameDeck.replayOrder());
+    }
+
+    @Test
+    void replayOrder_AfterSecureShuffle_ShouldThrowIllegalStateException() {
+        // Given
+        ShuffleStrategies.use(new SecureShuffleStrategy());
+        gameDeck.shuffle();
+
+        // When & Then
+        assertFalse(gameDeck.isReplayable());
+        assertTrue(gameDeck.getShuffles().isEmpty());
+        assertThrows(IllegalStateException.class, () -> gameDeck.replayOrder());
+    }
+
     // Helper method to find a specific card
     private Card findCard(Suit suit, Value value) {
         return originalOrder.stream()
@@ -333,11 +600,4 @@ public class GameDeckTest {
         gameDeck.shuffle();
     }
 
-    // Helper Methods
-    private void setUniqueIdsForCards(List<Card> cards) {
-        for (Card card : cards) {
-            TestUtils.setPrivateId(card, UUID.randomUUID());
-        }
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package domain;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameReplay;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameSnapshot;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.FastShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.SecureShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategies;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReplayTest {
+
+    private Game game;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game("Logged Game");
+        TestUtils.setPrivateId(game, UUID.randomUUID());
+        alice = new Player("Alice");
+        TestUtils.setPrivateId(alice, UUID.randomUUID());
+        bob = new Player("Bob");
+        TestUtils.setPrivateId(bob, UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShuffleStrategies.use(new FastShuffleStrategy());
+    }
+
+    @Test
+    void changes_ShouldBeLoggedInOrder() {
+        // When
+        game.addStandardDecks(2);
+        game.shuffleGameDeck();
+        game.addPlayer(alice);
+        game.dealCards(alice, 3);
+
+        // Then
+        List<GameLogEntry> log = game.getUnsavedLog();
+        assertEquals(List.of(GameLogEntry.Type.DECKS_ADDED, GameLogEntry.Type.SHUFFLED,
+                GameLogEntry.Type.PLAYER_JOINED, GameLogEntry.Type.DEALT), log.stream().map(GameLogEntry::getType).toList());
+        assertEquals(List.of(0L, 1L, 2L, 3L), log.stream().map(GameLogEntry::getSequence).toList());
+        assertEquals(4L, game.getLogLength());
+        assertEquals(104, log.get(0).getCards().size());
+        assertNotNull(log.get(1).getSeed());
+        assertEquals(alice.getCards(), log.get(3).getCards());
+    }
+
+    @Test
+    void replay_FromTheStart_ShouldRebuildShoeAndHands() {
+        // Given
+        playHands();
+
+        // When
+        GameReplay replay = replay(null, game.getUnsavedLog());
+
+        // Then
+        assertTrue(replay.verifyAgainst(game));
+        assertEquals(game.getGameDeck().getCards(), replay.getCards());
+        assertEquals(bob.getCards(), replay.getHands().get(bob.getId()));
+        assertFalse(replay.getHands().containsKey(alice.getId()));
+    }
+
+    @Test
+    void replay_FromSnapshot_ShouldOnlyApplyTheEntriesAfterIt() {
+        // Given a snapshot taken halfway
+        game.addStandardDecks(1);
+        game.shuffleGameDeck();
+        game.addPlayer(alice);
+        game.dealCards(alice, 5);
+        GameSnapshot snapshot = GameSnapshot.of(game);
+        int logged = game.getUnsavedLog().size();
+
+        game.addPlayer(bob);
+        game.dealRound(List.of(alice, bob), 2);
+        game.shuffleGameDeck();
+
+        // When
+        List<GameLogEntry> tail = game.getUnsavedLog().subList(logged, game.getUnsavedLog().size());
+        GameReplay replay = replay(snapshot, tail);
+
+        // Then
+        assertTrue(replay.verifyAgainst(game));
+        assertEquals(tail.size(), replay.getReplayedEntries());
+        assertEquals(alice.getCards(), replay.getHands().get(alice.getId()));
+    }
+
+    @Test
+    void replay_OfShuffleThatCannotBeReplayed_ShouldUseTheLoggedOrder() {
+        // Given
+        ShuffleStrategies.use(new SecureShuffleStrategy());
+        game.addDeck(new Deck("Secure Deck"));
+        game.shuffleGameDeck();
+
+        // When
+        GameReplay replay = replay(null, game.getUnsavedLog());
+
+        // Then
+        assertNull(game.getUnsavedLog().get(1).getSeed());
+        assertTrue(replay.verifyAgainst(game));
+    }
+
+    @Test
+    void replay_WithMissingEntry_ShouldFail() {
+        // Given
+        game.addStandardDecks(1);
+        game.shuffleGameDeck();
+        GameReplay replay = GameReplay.startingFrom(null);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> replay.apply(game.getUnsavedLog().get(1)));
+    }
+
+    @Test
+    void logSaved_ShouldKeepOnlyLaterEntries() {
+        // Given
+        game.addStandardDecks(1);
+        game.shuffleGameDeck();
+        game.addPlayer(alice);
+
+        // When
+        game.logSaved(2);
+
+        // Then
+        assertEquals(List.of(2L), game.getUnsavedLog().stream().map(GameLogEntry::getSequence).toList());
+    }
+
+    @Test
+    void discardLog_ShouldStartTheLogOverAtTheNextChange() {
+        // Given
+        game.addStandardDecks(1);
+        game.discardLog();
+        assertNull(game.getLogLength());
+
+        // When
+        game.shuffleGameDeck();
+
+        // Then
+        assertTrue(game.isLogRestarted());
+        assertEquals(1L, game.getLogLength());
+        assertEquals(0L, game.getUnsavedLog().get(0).getSequence());
+    }
+
+    // Deals, shuffles and takes a player's cards back into the shoe
+    private void playHands() {
+        game.addDeck(new Deck("First Deck"));
+        game.addStandardDecks(1);
+        game.shuffleGameDeck();
+        game.addPlayer(alice);
+        game.addPlayer(bob);
+        game.dealRound(List.of(alice, bob), 4);
+        game.dealCards(bob, 2);
+        game.removePlayer(alice);
+        game.shuffleGameDeck();
+        game.dealCards(bob, 1);
+    }
+
+    private static GameReplay replay(GameSnapshot snapshot, List<GameLogEntry> entries) {
+        GameReplay replay = GameReplay.startingFrom(snapshot);
+        entries.forEach(replay::apply);
+        return replay;
+    }
+}
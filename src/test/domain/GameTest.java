@@ -42,7 +42,6 @@ class GameTest {
         // Set unique IDs for entities
         TestUtils.setPrivateId(game, UUID.randomUUID());
         TestUtils.setPrivateId(standardDeck, UUID.randomUUID());
-        standardDeck.getCards().forEach(card -> TestUtils.setPrivateId(card, UUID.randomUUID()));
 
         game.addDeck(standardDeck);
 
@@ -70,7 +69,6 @@ class GameTest {
     void removePlayer_ShouldRemovePlayerAndReturnCards() {
         // Set unique IDs for entities
         TestUtils.setPrivateId(standardDeck, UUID.randomUUID());
-        standardDeck.getCards().forEach(card -> TestUtils.setPrivateId(card, UUID.randomUUID()));
 
         TestUtils.setPrivateId(game, UUID.randomUUID());
         TestUtils.setPrivateId(player, UUID.randomUUID());
@@ -98,7 +96,6 @@ class GameTest {
 
         // Ensure unique IDs for cards in the deck
         standardDeck.getCards().forEach(card -> {
-            TestUtils.setPrivateId(card, UUID.randomUUID());
         });
 
         // Create a game and add the deck
@@ -121,11 +118,28 @@ class GameTest {
         assertEquals(standardDeck.getCards().size() - 7, game.getGameDeck().getUndealtCount());
     }
 
+    @Test
+    void dealCards_FromTwoDeckShoe_ShouldKeepDuplicateCardsInHand() {
+        TestUtils.setPrivateId(game, UUID.randomUUID());
+        TestUtils.setPrivateId(player, UUID.randomUUID());
+
+        // Two unshuffled decks put the same card at positions 0 and 52
+        game.addDeck(standardDeck);
+        game.addDeck(new Deck("Second Deck"));
+        game.addPlayer(player);
+
+        game.dealCards(player, 104);
+
+        assertEquals(104, player.getCards().size());
+        assertEquals(2, player.getCards().stream()
+                .filter(card -> card.equals(Card.of(Suit.HEARTS, Value.ACE)))
+                .count());
+    }
+
     @Test
     void dealCards_WhenPlayerNotInGame_ShouldThrowIllegalArgumentException() {
         // Set unique IDs for entities
         TestUtils.setPrivateId(standardDeck, UUID.randomUUID());
-        standardDeck.getCards().forEach(card -> TestUtils.setPrivateId(card, UUID.randomUUID()));
 
         TestUtils.setPrivateId(game, UUID.randomUUID());
         TestUtils.setPrivateId(player, UUID.randomUUID());
@@ -140,11 +154,33 @@ class GameTest {
         assertTrue(exception.getMessage().contains("Player is not in this game"));
     }
 
+    @Test
+    void dealRound_ShouldDealOneCardAtATimeInTableOrder() {
+        // Set unique IDs for entities
+        TestUtils.setPrivateId(game, UUID.randomUUID());
+        TestUtils.setPrivateId(player, UUID.randomUUID());
+
+        Player secondPlayer = new Player("Player 2");
+        TestUtils.setPrivateId(secondPlayer, UUID.randomUUID());
+
+        game.addDeck(standardDeck);
+        game.addPlayer(player);
+        game.addPlayer(secondPlayer);
+        List<Card> shoe = game.getGameDeck().getCards();
+
+        // Deal two cards each
+        game.dealRound(List.of(secondPlayer, player), 2);
+
+        // Cards alternate between players starting with the first seat
+        assertEquals(List.of(shoe.get(0), shoe.get(2)), secondPlayer.getCards());
+        assertEquals(List.of(shoe.get(1), shoe.get(3)), player.getCards());
+        assertEquals(48, game.getGameDeck().getUndealtCount());
+    }
+
     @Test
     void getUndealtCardsBySuit_ShouldReturnCorrectCountAfterDealing() {
         // Set unique IDs for entities
         TestUtils.setPrivateId(standardDeck, UUID.randomUUID());
-        standardDeck.getCards().forEach(card -> TestUtils.setPrivateId(card, UUID.randomUUID()));
 
         TestUtils.setPrivateId(game, UUID.randomUUID());
         TestUtils.setPrivateId(player, UUID.randomUUID());
@@ -167,10 +203,10 @@ class GameTest {
         Deck valueDeck = new Deck("ValueTest");
         // Clear the default cards and add specific test cards
         List<Card> specificCards = Arrays.asList(
-                new Card(Suit.SPADES, Value.ACE),   // 1
-                new Card(Suit.HEARTS, Value.KING),  // 13
-                new Card(Suit.DIAMONDS, Value.FIVE), // 5
-                new Card(Suit.CLUBS, Value.TEN)     // 10
+                Card.of(Suit.SPADES, Value.ACE),   // 1
+                Card.of(Suit.HEARTS, Value.KING),  // 13
+                Card.of(Suit.DIAMONDS, Value.FIVE), // 5
+                Card.of(Suit.CLUBS, Value.TEN)     // 10
         );
 
         // Add method to Deck class: clearAndAddSpecificCards
@@ -207,5 +243,65 @@ class GameTest {
         assertEquals(playerB, sortedPlayers.get(0));
         assertEquals(playerA, sortedPlayers.get(1));
     }
-    
-}
\ No newline at end of file
+
+    @Test
+    void getPlayersWithTotalValue_AfterDealsOnceRanked_ShouldKeepRankingUpToDate() {
+        // Given a ranking built before any card is dealt
+        game.addDeck(standardDeck);
+        Player first = withId(new Player("First"));
+        Player second = withId(new Player("Second"));
+        game.addPlayer(first);
+        game.addPlayer(second);
+        game.getPlayersWithTotalValue();
+
+        // When
+        game.dealCards(second, 3);
+        Player late = withId(new Player("Late"));
+        game.addPlayer(late);
+        game.dealRound(List.of(first, late), 1);
+
+        // Then
+        List<Player> expected = new ArrayList<>(List.of(first, second, late));
+        expected.sort(Comparator.comparingInt(Player::getTotalValue).reversed()
+                .thenComparing(Player::getName));
+        assertEquals(expected, game.getPlayersWithTotalValue());
+
+        game.removePlayer(second);
+        assertFalse(game.getPlayersWithTotalValue().contains(second));
+        assertEquals(2, game.getPlayersWithTotalValue().size());
+    }
+
+    @Test
+    void getPlayersWithTotalValue_WhenLeaderChangesDuringRound_ShouldKeepRankingSorted() {
+        // Given four players ranked at 16, 7, 6 and 9
+        Deck valueDeck = new Deck("Ranked");
+        TestUtils.setPrivateField(valueDeck, "cards", new ArrayList<>(List.of(
+                Card.of(Suit.SPADES, Value.KING), Card.of(Suit.SPADES, Value.THREE),
+                Card.of(Suit.SPADES, Value.SEVEN), Card.of(Suit.SPADES, Value.SIX), Card.of(Suit.SPADES, Value.NINE),
+                // The round: 2, 13, 10 and 1 more
+                Card.of(Suit.HEARTS, Value.TWO), Card.of(Suit.HEARTS, Value.KING),
+                Card.of(Suit.HEARTS, Value.TEN), Card.of(Suit.HEARTS, Value.ACE))));
+        game.addDeck(valueDeck);
+        List<Player> table = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Player seated = withId(new Player("Player " + i));
+            game.addPlayer(seated);
+            table.add(seated);
+        }
+        game.dealCards(table.get(0), 2);
+        table.subList(1, 4).forEach(seated -> game.dealCards(seated, 1));
+        game.getPlayersWithTotalValue();
+
+        // When the round takes the second player from 7 to 20, past the leader
+        game.dealRound(table, 1);
+
+        // Then
+        assertEquals(List.of(table.get(1), table.get(0), table.get(2), table.get(3)), game.getPlayersWithTotalValue());
+        assertEquals(List.of(20, 18, 16, 10), game.getPlayersWithTotalValue().stream().map(Player::getTotalValue).toList());
+    }
+
+    private static Player withId(Player player) {
+        TestUtils.setPrivateId(player, UUID.randomUUID());
+        return player;
+    }
+}
@@ -0,0 +1,103 @@
+package domain;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.model.enums.Value;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class PlayerTest {
+
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player("Player 1");
+    }
+
+    @Test
+    void addCard_ShouldKeepTotalValueAndCardCount() {
+        // When
+        player.addCard(Card.of(Suit.HEARTS, Value.KING));
+        player.addCard(Card.of(Suit.SPADES, Value.FIVE));
+
+        // Then
+        assertEquals(18, player.getTotalValue());
+        assertEquals(2, player.getCardCount());
+    }
+
+    @Test
+    void removeAllCards_ShouldResetTotalValueAndCardCount() {
+        // Given
+        player.addCard(Card.of(Suit.HEARTS, Value.KING));
+
+        // When
+        player.removeAllCards();
+
+        // Then
+        assertEquals(0, player.getTotalValue());
+        assertEquals(0, player.getCardCount());
+    }
+
+    @Test
+    void addCard_ToHandStoredWithoutTotals_ShouldCountTheStoredHandOnce() {
+        // Given a hand stored before the totals were kept
+        player.addCard(Card.of(Suit.HEARTS, Value.KING));
+        TestUtils.setPrivateField(player, "totalValue", null);
+        TestUtils.setPrivateField(player, "cardCount", null);
+
+        // When
+        player.addCard(Card.of(Suit.CLUBS, Value.TWO));
+
+        // Then
+        assertEquals(15, player.getTotalValue());
+        assertEquals(2, player.getCardCount());
+    }
+
+    @Test
+    void snapshot_ShouldCopyHandAndTotals() {
+        // Given
+        player.addCard(Card.of(Suit.HEARTS, Value.QUEEN));
+
+        // When
+        Player snapshot = player.snapshot();
+        player.addCard(Card.of(Suit.HEARTS, Value.ACE));
+
+        // Then
+        assertEquals(12, snapshot.getTotalValue());
+        assertEquals(1, snapshot.getCardCount());
+        assertEquals(1, snapshot.getCards().size());
+    }
+
+    @Test
+    void copyHandFrom_LaterCopy_ShouldOnlyAppendTheCardsDealtSince() {
+        // Given a later copy of the player, dealt one more card
+        player.addCard(Card.of(Suit.HEARTS, Value.QUEEN));
+        Player copy = player.snapshot();
+        copy.addCard(Card.of(Suit.CLUBS, Value.THREE));
+
+        List<Card> storedCards = spy(new ArrayList<>(player.getCards()));
+        TestUtils.setPrivateField(player, "storedCards", storedCards);
+        TestUtils.setPrivateField(player, "cards", storedCards);
+
+        // When
+        player.copyHandFrom(copy);
+
+        // Then
+        assertEquals(copy.getCards(), player.getCards());
+        assertEquals(15, player.getTotalValue());
+        verify(storedCards, never()).clear();
+        verify(storedCards).addAll(List.of(Card.of(Suit.CLUBS, Value.THREE)));
+    }
+}
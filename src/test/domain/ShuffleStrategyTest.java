@@ -0,0 +1,89 @@
+package domain;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.FastShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.SecureShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.SeededShuffleStrategy;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategies;
+import com.cardgamedeck.card_game_deck_api.domain.model.shuffle.ShuffleStrategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShuffleStrategyTest {
+
+    private static final int SHOE_SIZE = 104;
+
+    @Test
+    void shuffle_WithEveryStrategy_ShouldPermuteOnlyTheGivenRange() {
+        for (ShuffleStrategy strategy : List.of(new FastShuffleStrategy(), new SecureShuffleStrategy(),
+                new SeededShuffleStrategy(42))) {
+            // Given
+            int[] ordinals = shoe();
+
+            // When
+            strategy.shuffle(ordinals, 10, 90);
+
+            // Then
+            assertArrayEquals(Arrays.copyOfRange(shoe(), 0, 10), Arrays.copyOfRange(ordinals, 0, 10));
+            assertArrayEquals(Arrays.copyOfRange(shoe(), 90, SHOE_SIZE), Arrays.copyOfRange(ordinals, 90, SHOE_SIZE));
+            int[] original = Arrays.copyOfRange(shoe(), 10, 90);
+            int[] shuffled = Arrays.copyOfRange(ordinals, 10, 90);
+            assertFalse(Arrays.equals(original, shuffled));
+            Arrays.sort(original);
+            Arrays.sort(shuffled);
+            assertArrayEquals(original, shuffled);
+        }
+    }
+
+    @Test
+    void replay_WithReturnedSeed_ShouldReproduceTheShuffle() {
+        // Given
+        int[] ordinals = shoe();
+        Long seed = new FastShuffleStrategy().shuffle(ordinals, 0, SHOE_SIZE);
+
+        // When
+        int[] replayed = shoe();
+        ShuffleStrategy.replay(replayed, 0, SHOE_SIZE, seed);
+
+        // Then
+        assertArrayEquals(ordinals, replayed);
+    }
+
+    @Test
+    void shuffle_WithSecureStrategy_ShouldNotReturnSeed() {
+        assertNull(new SecureShuffleStrategy().shuffle(shoe(), 0, SHOE_SIZE));
+    }
+
+    @Test
+    void shuffle_WithSameConfiguredSeed_ShouldProduceSameSequence() {
+        // Given
+        SeededShuffleStrategy first = new SeededShuffleStrategy(7);
+        SeededShuffleStrategy second = new SeededShuffleStrategy(7);
+        int[] firstOrdinals = shoe();
+        int[] secondOrdinals = shoe();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(first.shuffle(firstOrdinals, i, SHOE_SIZE), second.shuffle(secondOrdinals, i, SHOE_SIZE));
+        }
+
+        // Then
+        assertArrayEquals(firstOrdinals, secondOrdinals);
+    }
+
+    @Test
+    void forName_WithSeededStrategyAndNoSeed_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ShuffleStrategies.forName(ShuffleStrategies.SEEDED, null));
+        assertThrows(IllegalArgumentException.class, () -> ShuffleStrategies.forName("riffle", null));
+        assertInstanceOf(SecureShuffleStrategy.class, ShuffleStrategies.forName(ShuffleStrategies.SECURE, null));
+    }
+
+    private static int[] shoe() {
+        return IntStream.range(0, SHOE_SIZE).map(i -> i % 52).toArray();
+    }
+}
@@ -5,26 +5,43 @@ import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
 import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
 import com.cardgamedeck.card_game_deck_api.presentation.controller.DeckController;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.DeckDTO;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.BulkCreateDecksRequest;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.DeckMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PageMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.NdjsonStreamer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import utils.TestUtils;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DeckController.class)
 @ContextConfiguration(classes = CardGameDeckApiApplication.class)
+@Import({PageMapper.class, NdjsonStreamer.class})
 public class DeckControllerIntegrationTest {
 
     @Autowired
@@ -86,6 +103,25 @@ public class DeckControllerIntegrationTest {
                 .andExpect(jsonPath("$.cardCount", is(52)));
     }
 
+    @Test
+    void getDeckById_WithOutdatedETag_ShouldReturnDeckWithCurrentETag() throws Exception {
+        // Setup
+        UUID deckId = UUID.randomUUID();
+        Deck deck = new Deck("Standard Deck");
+        DeckDTO deckDTO = new DeckDTO();
+        deckDTO.setId(deckId);
+
+        when(deckService.findVersion(deckId)).thenReturn(Optional.of(1L));
+        when(deckService.findById(deckId)).thenReturn(Optional.of(deck));
+        when(deckMapper.toDTO(deck)).thenReturn(deckDTO);
+
+        // Execute & Verify
+        mockMvc.perform(get("/decks/{deckId}", deckId).header("If-None-Match", "\"v0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.id", is(deckId.toString())));
+    }
+
     @Test
     void getDeckById_WithNonExistingId_ShouldReturnNotFound() throws Exception {
         // Setup
@@ -97,4 +133,79 @@ public class DeckControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getDecksPage_ShouldReturnRequestedPage() throws Exception {
+        // Setup
+        Deck deck = new Deck("Paged Deck");
+        DeckDTO deckDTO = new DeckDTO();
+        deckDTO.setName("Paged Deck");
+        deckDTO.setCardCount(52);
+
+        when(deckService.findPage(0, 20)).thenReturn(new PageImpl<>(List.of(deck), PageRequest.of(0, 20), 1));
+        when(deckMapper.toDTO(deck)).thenReturn(deckDTO);
+
+        // Execute & Verify
+        mockMvc.perform(get("/decks").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Paged Deck")))
+                .andExpect(jsonPath("$.totalElements", is(1)));
+    }
+
+    @Test
+    void getDecksPage_WithOversizedPage_ShouldReturnBadRequest() throws Exception {
+        // Setup
+        when(deckService.findPage(0, 10_000))
+                .thenThrow(new IllegalArgumentException("Page size must be between 1 and 500"));
+
+        // Execute & Verify
+        mockMvc.perform(get("/decks").param("size", "10000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Page size must be between 1 and 500")));
+    }
+
+    @Test
+    void createDecks_WithCount_ShouldStreamNumberedDecks() throws Exception {
+        // Setup
+        Deck first = new Deck("Deck 1");
+        Deck second = new Deck("Deck 2");
+        TestUtils.setPrivateId(first, UUID.randomUUID());
+        TestUtils.setPrivateId(second, UUID.randomUUID());
+        DeckDTO firstDTO = new DeckDTO(first.getId(), "Deck 1", 52);
+        DeckDTO secondDTO = new DeckDTO(second.getId(), "Deck 2", 52);
+
+        doAnswer(invocation -> {
+            Consumer<Deck> action = invocation.getArgument(1);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(deckService).createDecks(eq(List.of("Deck 1", "Deck 2")), any());
+        when(deckMapper.toDTO(first)).thenReturn(firstDTO);
+        when(deckMapper.toDTO(second)).thenReturn(secondDTO);
+
+        // Execute
+        MvcResult result = mockMvc.perform(post("/decks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCreateDecksRequest(2, null))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Verify
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(objectMapper.writeValueAsString(firstDTO) + "\n"
+                        + objectMapper.writeValueAsString(secondDTO) + "\n"));
+    }
+
+    @Test
+    void createDecks_WithCountAndNames_ShouldReturnBadRequest() throws Exception {
+        // Execute & Verify
+        mockMvc.perform(post("/decks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCreateDecksRequest(2, List.of("Named Deck")))))
+                .andExpect(status().isBadRequest());
+
+        verify(deckService, never()).createDecks(anyList(), any());
+    }
+}
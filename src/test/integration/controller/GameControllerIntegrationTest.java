@@ -4,43 +4,62 @@ import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
 import com.cardgamedeck.card_game_deck_api.domain.model.Game;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
 import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
 import com.cardgamedeck.card_game_deck_api.presentation.controller.GameController;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.GameDTO;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.AddDecksRequest;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.request.CreateGameRequest;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.request.DealCardsRequest;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.DealRoundRequest;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountBySuitResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountByValueResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PlayerScoreResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.CardMapper;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.GameMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PageMapper;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.PlayerMapper;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.GameEventStreamer;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.NdjsonStreamer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(GameController.class)
 @ContextConfiguration(classes = CardGameDeckApiApplication.class)
+@Import({PageMapper.class, CardMapper.class, NdjsonStreamer.class, GameEventStreamer.class})
 public class GameControllerIntegrationTest {
 
     @Autowired
@@ -95,6 +114,33 @@ public class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.undealtCardCount", is(52)));
     }
 
+    @Test
+    void addDecksToGame_WithDeckCount_ShouldBuildStandardShoe() throws Exception {
+        // Setup
+        UUID gameId = UUID.randomUUID();
+        Game game = new Game("Blackjack Table");
+        GameDTO gameDTO = new GameDTO(gameId, "Blackjack Table", 416, 0);
+
+        when(gameService.addStandardDecksToGame(gameId, 8)).thenReturn(game);
+        when(gameMapper.toDTO(game)).thenReturn(gameDTO);
+
+        // Execute & Verify
+        mockMvc.perform(post("/games/{gameId}/decks", gameId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddDecksRequest(8, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.undealtCardCount", is(416)));
+    }
+
+    @Test
+    void addDecksToGame_WithDeckCountAndDeckIds_ShouldReturnBadRequest() throws Exception {
+        // Execute & Verify
+        mockMvc.perform(post("/games/{gameId}/decks", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddDecksRequest(2, List.of(UUID.randomUUID())))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void addPlayerToGame_ShouldIncreasePlayerCount() throws Exception {
         // Setup
@@ -134,6 +180,40 @@ public class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.undealtCardCount", is(47)));
     }
 
+    @Test
+    void dealRound_ShouldDealToAllListedPlayers() throws Exception {
+        // Setup
+        UUID gameId = UUID.randomUUID();
+        List<UUID> playerIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Game game = new Game("Deal Round Game");
+        GameDTO gameDTO = new GameDTO(gameId, "Deal Round Game", 46, 3);
+
+        DealRoundRequest dealRoundRequest = new DealRoundRequest(playerIds, 2);
+
+        when(gameService.dealRound(gameId, playerIds, 2)).thenReturn(game);
+        when(gameMapper.toDTO(game)).thenReturn(gameDTO);
+
+        // Execute & Verify
+        mockMvc.perform(post("/games/{gameId}/deal-round", gameId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dealRoundRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.undealtCardCount", is(46)));
+    }
+
+    @Test
+    void dealRound_WithoutPlayers_ShouldReturnBadRequest() throws Exception {
+        // Setup
+        UUID gameId = UUID.randomUUID();
+        DealRoundRequest dealRoundRequest = new DealRoundRequest(List.of(), 2);
+
+        // Execute & Verify
+        mockMvc.perform(post("/games/{gameId}/deal-round", gameId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dealRoundRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shuffleGameDeck_ShouldNotChangeCardCount() throws Exception {
         // Setup
@@ -209,6 +289,30 @@ public class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.cardCountBySuit.DIAMONDS", is(13)));
     }
 
+    @Test
+    void getUndealtCardsBySuit_WithCurrentETag_ShouldReturnNotModifiedWithoutMapping() throws Exception {
+        // Setup
+        UUID gameId = UUID.randomUUID();
+        Map<Suit, Integer> suitCounts = new HashMap<>();
+        suitCounts.put(Suit.HEARTS, 12);
+        suitCounts.put(Suit.SPADES, 13);
+
+        when(gameService.getUndealtCardsBySuit(gameId)).thenReturn(suitCounts);
+        when(gameMapper.toCardCountBySuitResponse(suitCounts)).thenReturn(new CardCountBySuitResponse(suitCounts));
+
+        String etag = mockMvc.perform(get("/games/{gameId}/deck/cards-by-suit", gameId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Execute & Verify
+        mockMvc.perform(get("/games/{gameId}/deck/cards-by-suit", gameId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(gameMapper, times(1)).toCardCountBySuitResponse(suitCounts);
+    }
+
     @Test
     void getUndealtCardsByValue_ShouldReturnCorrectCounts() throws Exception {
         // Setup
@@ -235,11 +339,11 @@ public class GameControllerIntegrationTest {
     void getGameById_ShouldReturnGame() throws Exception {
         // Setup
         UUID gameId = UUID.randomUUID();
-        Game game = new Game("Test Game");
+        GameSummary summary = gameSummary(gameId);
         GameDTO gameDTO = new GameDTO(gameId, "Test Game", 0, 0);
 
-        when(gameService.findById(gameId)).thenReturn(Optional.of(game));
-        when(gameMapper.toDTO(game)).thenReturn(gameDTO);
+        when(gameService.findSummary(gameId)).thenReturn(Optional.of(summary));
+        when(gameMapper.toDTO(summary)).thenReturn(gameDTO);
 
         // Execute & Verify
         mockMvc.perform(get("/games/{gameId}", gameId))
@@ -248,6 +352,19 @@ public class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.name", is("Test Game")));
     }
 
+    @Test
+    void streamGameEvents_WithNonExistingGame_ShouldReturnNotFound() throws Exception {
+        // Setup
+        UUID gameId = UUID.randomUUID();
+        when(gameService.existsById(gameId)).thenReturn(false);
+
+        // Execute & Verify
+        mockMvc.perform(get("/games/{gameId}/events", gameId))
+                .andExpect(status().isNotFound());
+
+        verify(gameService, never()).subscribe(eq(gameId), any());
+    }
+
     @Test
     void removePlayerFromGame_ShouldReturnUpdatedGame() throws Exception {
         // Setup
@@ -264,4 +381,93 @@ public class GameControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.playerCount", is(0)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGamesPage_ShouldReturnPageWithTotals() throws Exception {
+        // Setup
+        GameSummary summary = gameSummary(UUID.randomUUID());
+        GameDTO gameDTO = new GameDTO(summary.getId(), "Paged Game", 52, 2);
+
+        when(gameService.findSummaryPage(1, 1)).thenReturn(new PageImpl<>(List.of(summary), PageRequest.of(1, 1), 3));
+        when(gameMapper.toDTO(summary)).thenReturn(gameDTO);
+
+        // Execute & Verify
+        mockMvc.perform(get("/games").param("page", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Paged Game")))
+                .andExpect(jsonPath("$.page", is(1)))
+                .andExpect(jsonPath("$.totalElements", is(3)))
+                .andExpect(jsonPath("$.totalPages", is(3)));
+    }
+
+    @Test
+    void getGamesAfter_WithFullPage_ShouldReturnCursorOfLastGame() throws Exception {
+        // Setup
+        GameSummary first = gameSummary(UUID.randomUUID());
+        GameSummary second = gameSummary(UUID.randomUUID());
+
+        when(gameService.findSummariesAfter(null, null, 2)).thenReturn(List.of(first, second));
+        when(gameMapper.toDTO(any(GameSummary.class))).thenReturn(new GameDTO());
+
+        // Execute
+        MvcResult result = mockMvc.perform(get("/games").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(result.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        when(gameService.findSummariesAfter(second.getCreatedAt(), second.getId(), 2)).thenReturn(List.of());
+
+        // Verify the cursor resumes after the last game of the previous page
+        mockMvc.perform(get("/games").param("limit", "2").param("after", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void getGamesAfter_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Execute & Verify
+        mockMvc.perform(get("/games").param("limit", "10").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamAllGames_ShouldWriteOneJsonLinePerGame() throws Exception {
+        // Setup
+        GameSummary first = gameSummary(UUID.randomUUID());
+        GameSummary second = gameSummary(UUID.randomUUID());
+        GameDTO firstDTO = new GameDTO(first.getId(), "First Game", 52, 0);
+        GameDTO secondDTO = new GameDTO(second.getId(), "Second Game", 104, 3);
+
+        doAnswer(invocation -> {
+            Consumer<GameSummary> action = invocation.getArgument(0);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(gameService).streamSummaries(any());
+        when(gameMapper.toDTO(first)).thenReturn(firstDTO);
+        when(gameMapper.toDTO(second)).thenReturn(secondDTO);
+
+        // Execute
+        MvcResult result = mockMvc.perform(get("/games/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Verify
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(objectMapper.writeValueAsString(firstDTO) + "\n"
+                        + objectMapper.writeValueAsString(secondDTO) + "\n"));
+    }
+
+    private GameSummary gameSummary(UUID gameId) {
+        GameSummary summary = mock(GameSummary.class);
+        when(summary.getId()).thenReturn(gameId);
+        when(summary.getCreatedAt()).thenReturn(LocalDateTime.now());
+        return summary;
+    }
+}
@@ -10,29 +10,37 @@ import com.cardgamedeck.card_game_deck_api.presentation.controller.PlayerControl
 import com.cardgamedeck.card_game_deck_api.presentation.dto.*;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PlayerCardsResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.mapper.*;
+import com.cardgamedeck.card_game_deck_api.presentation.stream.NdjsonStreamer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(PlayerController.class)
 @ContextConfiguration(classes = CardGameDeckApiApplication.class)
+@Import({PageMapper.class, NdjsonStreamer.class})
 public class PlayerControllerIntegrationTest {
 
     @Autowired
@@ -97,6 +105,20 @@ public class PlayerControllerIntegrationTest {
                 .andExpect(jsonPath("$.cardCount", is(0)));
     }
 
+    @Test
+    void getPlayerById_WithCurrentETag_ShouldReturnNotModifiedWithoutLoadingPlayer() throws Exception {
+        // Setup
+        UUID playerId = UUID.randomUUID();
+        when(playerService.findVersion(playerId)).thenReturn(Optional.of(3L));
+
+        // Execute & Verify
+        mockMvc.perform(get("/players/{playerId}", playerId).header("If-None-Match", "\"v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v3\""));
+
+        verify(playerService, never()).findById(playerId);
+    }
+
     @Test
     void getPlayerById_WithNonExistingId_ShouldReturnNotFound() throws Exception {
         // Setup
@@ -115,14 +137,14 @@ public class PlayerControllerIntegrationTest {
         Player player = new Player("Test Player");
 
         // Create cards
-        Set<Card> playerCards = new HashSet<>();
-        Card card1 = new Card(Suit.HEARTS, Value.ACE);
-        Card card2 = new Card(Suit.SPADES, Value.KING);
+        List<Card> playerCards = new ArrayList<>();
+        Card card1 = Card.of(Suit.HEARTS, Value.ACE);
+        Card card2 = Card.of(Suit.SPADES, Value.KING);
         playerCards.add(card1);
         playerCards.add(card2);
 
         // Create card DTOs
-        Set<CardDTO> cardDTOs = new HashSet<>();
+        List<CardDTO> cardDTOs = new ArrayList<>();
         CardDTO cardDTO1 = new CardDTO();
         cardDTO1.setId(UUID.randomUUID());
         cardDTO1.setSuit(Suit.HEARTS);
@@ -170,4 +192,28 @@ public class PlayerControllerIntegrationTest {
         mockMvc.perform(get("/players/{playerId}/cards", playerId))
                 .andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamAllPlayers_ShouldWriteOneJsonLinePerPlayer() throws Exception {
+        // Setup
+        Player player = new Player("Streamed Player");
+        PlayerDTO playerDTO = new PlayerDTO(UUID.randomUUID(), "Streamed Player", 0);
+
+        doAnswer(invocation -> {
+            Consumer<Player> action = invocation.getArgument(0);
+            action.accept(player);
+            return null;
+        }).when(playerService).streamAll(any());
+        when(playerMapper.toDTO(player)).thenReturn(playerDTO);
+
+        // Execute
+        MvcResult result = mockMvc.perform(get("/players/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Verify
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(objectMapper.writeValueAsString(playerDTO) + "\n"));
+    }
+}
@@ -0,0 +1,112 @@
+package integration.events;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Opens a server-sent event stream on a game and checks that its changes are
+ * pushed once committed, and that the stream ends with the game.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class GameEventStreamTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    private UUID gameId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Streamed Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Streamed Deck").getId());
+        playerId = playerService.createPlayer("Streamed Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+    }
+
+    @Test
+    void stream_ShouldPushCurrentStateThenEachCommittedChange() throws Exception {
+        MockHttpServletResponse response = openStream();
+        awaitContent(response, "event:game");
+        awaitContent(response, "event:scores");
+
+        gameService.dealCardsToPlayer(gameId, playerId, 3);
+        awaitContent(response, "event:dealt");
+        awaitContent(response, "\"cardCount\":3");
+
+        gameService.shuffleGameDeck(gameId);
+        awaitContent(response, "event:shuffled");
+    }
+
+    @Test
+    void stream_ShouldEndWhenTheGameIsDeleted() throws Exception {
+        MockHttpServletResponse response = openStream();
+        awaitContent(response, "event:game");
+
+        gameService.deleteGame(gameId);
+        awaitContent(response, "event:deleted");
+    }
+
+    @Test
+    void stream_ShouldOnlyPushChangesOfItsGame() throws Exception {
+        MockHttpServletResponse response = openStream();
+        awaitContent(response, "event:game");
+
+        UUID otherGameId = gameService.createGame("Other Game").getId();
+        gameService.addDeckToGame(otherGameId, deckService.createDeck("Other Deck").getId());
+        gameService.shuffleGameDeck(gameId);
+        awaitContent(response, "event:shuffled");
+
+        assertFalse(response.getContentAsString().contains("event:decks-added"));
+    }
+
+    private MockHttpServletResponse openStream() throws Exception {
+        return mockMvc.perform(get("/games/{gameId}/events", gameId))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (response.getContentAsString().contains(expected)) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("Stream never contained " + expected + ": " + response.getContentAsString());
+    }
+}
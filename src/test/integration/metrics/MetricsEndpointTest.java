@@ -0,0 +1,108 @@
+package integration.metrics;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.DealCardsRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Deals through the API and checks the game meters are recorded and scraped
+ * in Prometheus format.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    private UUID gameId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Metrics Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Metrics Deck").getId());
+        playerId = playerService.createPlayer("Metrics Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+    }
+
+    @Test
+    void dealCardsToPlayer_ShouldCountCardsAndStatements() throws Exception {
+        // Given
+        double dealtBefore = registry.get("cardgame.cards.dealt").counter().count();
+        DistributionSummary statements = registry.find("cardgame.http.statements")
+                .tags("method", "POST", "uri", "/games/{gameId}/players/{playerId}/deal")
+                .summary();
+        long dealsBefore = statements == null ? 0 : statements.count();
+
+        // When
+        mockMvc.perform(post("/games/{gameId}/players/{playerId}/deal", gameId, playerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DealCardsRequest(3))))
+                .andExpect(status().isOk());
+
+        // Then
+        assertEquals(dealtBefore + 3, registry.get("cardgame.cards.dealt").counter().count());
+        assertEquals(dealsBefore + 1, registry.get("cardgame.http.statements")
+                .tags("method", "POST", "uri", "/games/{gameId}/players/{playerId}/deal")
+                .summary().count());
+        assertEquals(52, registry.get("cardgame.shoe.size").summary().max());
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldExposeGameMeters() throws Exception {
+        // Given
+        gameService.shuffleGameDeck(gameId);
+
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("cardgame_cards_dealt_cards_total")))
+                .andExpect(content().string(containsString("cardgame_shuffle_duration_seconds_bucket")))
+                .andExpect(content().string(containsString("cardgame_shoe_size_cards_bucket")))
+                .andExpect(content().string(containsString(
+                        "cardgame_service_operation_seconds_count{operation=\"shuffleGameDeck\"")));
+    }
+}
@@ -0,0 +1,93 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent deals on one game are serialized by the game lock, so none of
+ * them conflicts and no card is dealt twice.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class ConcurrentDealingTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    private UUID gameId;
+    private List<UUID> playerIds;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Busy Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Busy Deck").getId());
+
+        playerIds = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            UUID playerId = playerService.createPlayer("Busy Player " + i).getId();
+            gameService.addPlayerToGame(gameId, playerId);
+            playerIds.add(playerId);
+        }
+    }
+
+    @Test
+    void dealCardsToPlayer_FromManyThreads_ShouldDealEveryCardOnce() throws Exception {
+        // When
+        ConcurrentDeals deals = new ConcurrentDeals(gameService, playerService);
+        deals.run(gameId, playerIds, 8);
+
+        // Then
+        assertEquals(0, deals.conflicts.get());
+        deals.assertEveryCardDealtOnce(playerIds, 52);
+        assertEquals(0, gameService.findSummary(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void dealCardsToPlayer_OnDifferentGamesFromManyThreads_ShouldDealEveryCardOnce() throws Exception {
+        // Given a second game dealt at the same time
+        UUID otherGameId = gameService.createGame("Other Game").getId();
+        gameService.addDeckToGame(otherGameId, deckService.createDeck("Other Deck").getId());
+        UUID otherPlayerId = playerService.createPlayer("Other Player").getId();
+        gameService.addPlayerToGame(otherGameId, otherPlayerId);
+
+        ConcurrentDeals deals = new ConcurrentDeals(gameService, playerService);
+        ConcurrentDeals otherDeals = new ConcurrentDeals(gameService, playerService);
+
+        // When
+        Thread other = new Thread(() -> {
+            try {
+                otherDeals.run(otherGameId, List.of(otherPlayerId), 4);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.start();
+        deals.run(gameId, playerIds, 8);
+        other.join();
+
+        // Then
+        deals.assertEveryCardDealtOnce(playerIds, 52);
+        otherDeals.assertEveryCardDealtOnce(List.of(otherPlayerId), 52);
+    }
+}
@@ -0,0 +1,78 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.domain.model.Card;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deals single cards to the players of a game from many threads at once,
+ * until the shoe runs out.
+ */
+class ConcurrentDeals {
+
+    final AtomicInteger dealt = new AtomicInteger();
+    final AtomicInteger conflicts = new AtomicInteger();
+
+    private final IGameService gameService;
+    private final IPlayerService playerService;
+
+    ConcurrentDeals(IGameService gameService, IPlayerService playerService) {
+        this.gameService = gameService;
+        this.playerService = playerService;
+    }
+
+    void run(UUID gameId, List<UUID> playerIds, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            UUID playerId = playerIds.get(t % playerIds.size());
+            workers.add(executor.submit(() -> {
+                start.await();
+                while (true) {
+                    try {
+                        gameService.dealCardsToPlayer(gameId, playerId, 1);
+                        dealt.incrementAndGet();
+                    } catch (OptimisticLockingFailureException e) {
+                        conflicts.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        return null; // The shoe is empty
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    // Every card of a single deck shoe ends up in exactly one hand
+    void assertEveryCardDealtOnce(List<UUID> playerIds, int shoeSize) {
+        List<Card> held = new ArrayList<>();
+        playerIds.forEach(playerId -> held.addAll(playerService.getPlayerCards(playerId)));
+
+        Set<Card> distinct = new HashSet<>(held);
+        assertEquals(held.size(), distinct.size(), "A card was dealt more than once");
+        assertEquals(dealt.get(), held.size());
+        assertEquals(shoeSize, held.size());
+    }
+}
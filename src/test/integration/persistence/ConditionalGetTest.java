@@ -0,0 +1,123 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that reads answer 304 Not Modified to a client holding the current
+ * ETag, and a new ETag once the game or player has changed.
+ */
+@SpringBootTest(
+        classes = CardGameDeckApiApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    private Statistics statistics;
+    private UUID gameId;
+    private UUID deckId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        gameId = gameService.createGame("Conditional Game").getId();
+        deckId = deckService.createDeck("Conditional Deck").getId();
+        gameService.addDeckToGame(gameId, deckId);
+        playerId = playerService.createPlayer("Conditional Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+    }
+
+    @Test
+    void gameReads_ShouldBeNotModifiedUntilCardsAreDealt() throws Exception {
+        String[] uris = {"/games/{gameId}", "/games/{gameId}/deck/cards-by-suit",
+                "/games/{gameId}/deck/cards-by-value", "/games/{gameId}/players/scores"};
+        String[] etags = new String[uris.length];
+        for (int i = 0; i < uris.length; i++) {
+            etags[i] = etagOf(uris[i], gameId);
+            assertNotModified(uris[i], gameId, etags[i]);
+        }
+
+        gameService.dealCardsToPlayer(gameId, playerId, 1);
+
+        for (int i = 0; i < uris.length; i++) {
+            assertNotEquals(etags[i], etagOf(uris[i], gameId), uris[i]);
+        }
+    }
+
+    @Test
+    void playerReads_ShouldBeNotModifiedUntilCardsAreDealt() throws Exception {
+        String playerEtag = etagOf("/players/{playerId}", playerId);
+        String cardsEtag = etagOf("/players/{playerId}/cards", playerId);
+
+        assertNotModified("/players/{playerId}", playerId, playerEtag);
+        assertNotModified("/players/{playerId}/cards", playerId, cardsEtag);
+
+        gameService.dealCardsToPlayer(gameId, playerId, 1);
+
+        assertNotEquals(playerEtag, etagOf("/players/{playerId}", playerId));
+        assertNotEquals(cardsEtag, etagOf("/players/{playerId}/cards", playerId));
+    }
+
+    @Test
+    void notModifiedDeck_ShouldOnlyReadItsVersion() throws Exception {
+        String etag = etagOf("/decks/{deckId}", deckId);
+
+        statistics.clear();
+        assertNotModified("/decks/{deckId}", deckId, etag);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private String etagOf(String uri, UUID id) throws Exception {
+        return mockMvc.perform(get(uri, id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    private void assertNotModified(String uri, UUID id, String etag) throws Exception {
+        mockMvc.perform(get(uri, id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
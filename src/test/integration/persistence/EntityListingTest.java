@@ -0,0 +1,117 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IDeckRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offset pages, keyset pages and streaming against a real database, all of
+ * which must list the same entities in the same creation order.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class EntityListingTest {
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckRepository deckRepository;
+
+    private List<UUID> deckIds;
+
+    @BeforeEach
+    void setUp() {
+        gameService.findAll().forEach(game -> gameService.deleteGame(game.getId()));
+        deckRepository.deleteAll();
+
+        deckIds = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            deckIds.add(deckService.createDeck("Deck " + i).getId());
+        }
+    }
+
+    @Test
+    void findPage_ShouldSplitEntitiesInCreationOrder() {
+        // When
+        Page<Deck> firstPage = deckService.findPage(0, 3);
+        Page<Deck> lastPage = deckService.findPage(2, 3);
+
+        // Then
+        assertEquals(7, firstPage.getTotalElements());
+        assertEquals(3, firstPage.getTotalPages());
+        assertEquals(deckIds.subList(0, 3), firstPage.map(Deck::getId).getContent());
+        assertEquals(deckIds.subList(6, 7), lastPage.map(Deck::getId).getContent());
+    }
+
+    @Test
+    void findAfter_ShouldWalkEveryEntityOnceInCreationOrder() {
+        // Given
+        List<UUID> visited = new ArrayList<>();
+        List<Deck> page = deckService.findAfter(null, null, 3);
+
+        // When
+        while (!page.isEmpty()) {
+            page.forEach(deck -> visited.add(deck.getId()));
+            Deck last = page.get(page.size() - 1);
+            page = deckService.findAfter(last.getCreatedAt(), last.getId(), 3);
+        }
+
+        // Then
+        assertEquals(deckIds, visited);
+    }
+
+    @Test
+    void findAfter_WithHalfAPosition_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> deckService.findAfter(null, deckIds.get(0), 3));
+    }
+
+    @Test
+    void streamAll_ShouldVisitEveryEntityInCreationOrder() {
+        // Given
+        List<String> visited = new ArrayList<>();
+
+        // When
+        deckService.streamAll(deck -> visited.add(deck.getName() + ":" + deck.getCards().size()));
+
+        // Then
+        assertEquals(7, visited.size());
+        assertEquals("Deck 1:52", visited.get(0));
+        assertEquals("Deck 7:52", visited.get(6));
+    }
+
+    @Test
+    void streamAll_ShouldInitializeLazyAssociationsWhileVisiting() {
+        // Given
+        Game game = gameService.createGame("Streamed Game");
+        gameService.addDeckToGame(game.getId(), deckIds.get(0));
+        List<Integer> undealtCounts = new ArrayList<>();
+
+        // When
+        gameService.streamAll(streamed -> undealtCounts.add(streamed.getGameDeck().getUndealtCount()));
+
+        // Then
+        assertEquals(List.of(52), undealtCounts);
+    }
+}
@@ -0,0 +1,130 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.DealCardsRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each game endpoint issues against a populated
+ * game (two-deck shoe, three players holding cards), so a change to a fetch
+ * plan that reintroduces eager loading or N+1 queries fails here.
+ */
+@SpringBootTest(
+        classes = CardGameDeckApiApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class GameEndpointStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    private Statistics statistics;
+    private UUID gameId;
+    private List<UUID> playerIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        gameId = gameService.createGame("Statement Count Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("First Deck").getId());
+        gameService.addDeckToGame(gameId, deckService.createDeck("Second Deck").getId());
+
+        playerIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            UUID playerId = playerService.createPlayer("Player " + i).getId();
+            gameService.addPlayerToGame(gameId, playerId);
+            gameService.dealCardsToPlayer(gameId, playerId, 2);
+            playerIds.add(playerId);
+        }
+    }
+
+    @Test
+    void getGameById_ShouldReadSummaryInOneQuery() throws Exception {
+        assertEquals(1, statementsFor(get("/games/{gameId}", gameId)));
+    }
+
+    @Test
+    void getAllGames_ShouldReadSummariesInOneQuery() throws Exception {
+        assertEquals(1, statementsFor(get("/games")));
+    }
+
+    @Test
+    void dealCardsToPlayer_ShouldLoadHandsInOneBatch() throws Exception {
+        DealCardsRequest request = new DealCardsRequest(3);
+
+        long statements = statementsFor(post("/games/{gameId}/players/{playerId}/deal", gameId, playerIds.get(0))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // game graph with the shoe order and every hand; then the deck cursor,
+        // the game row and the player's hand
+        assertEquals(4, statements);
+    }
+
+    @Test
+    void getPlayerScores_ShouldNotLoadShoeOrHands() throws Exception {
+        // Hand totals and sizes are columns of the player rows
+        assertEquals(1, statementsFor(get("/games/{gameId}/players/scores", gameId)));
+    }
+
+    @Test
+    void getUndealtCardsBySuit_ShouldNotLoadShoeOrPlayers() throws Exception {
+        // The counts are columns of the game deck row
+        assertEquals(1, statementsFor(get("/games/{gameId}/deck/cards-by-suit", gameId)));
+    }
+
+    @Test
+    void getUndealtCardsByValue_ShouldNotLoadShoeOrPlayers() throws Exception {
+        assertEquals(1, statementsFor(get("/games/{gameId}/deck/cards-by-value", gameId)));
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,212 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
+import com.cardgamedeck.card_game_deck_api.application.impl.log.GameLog;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameLogEntry;
+import com.cardgamedeck.card_game_deck_api.domain.model.log.GameReplay;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameLogRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameSnapshotRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With the game log on, every change is appended to the log of its game, and
+ * replaying the latest snapshot and the entries after it rebuilds the stored
+ * game. Deals and shuffles go through the hot game engine, so both the
+ * database and the write-back paths are logged.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class, properties = {
+        "card-game.log.enabled=true",
+        "card-game.log.snapshot-interval=4",
+        "card-game.engine.hot-games.enabled=true",
+        // Flushes are triggered by the tests
+        "card-game.engine.hot-games.flush-interval-ms=3600000",
+        "card-game.engine.hot-games.eviction-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class GameLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private HotGameStore hotGameStore;
+
+    @Autowired
+    private IGameLogRepository logRepository;
+
+    @Autowired
+    private IGameSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private GameLog gameLog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID gameId;
+    private UUID firstPlayerId;
+    private UUID secondPlayerId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Logged Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Logged Deck").getId());
+        firstPlayerId = playerService.createPlayer("First Player").getId();
+        secondPlayerId = playerService.createPlayer("Second Player").getId();
+        gameService.addPlayerToGame(gameId, firstPlayerId);
+        gameService.addPlayerToGame(gameId, secondPlayerId);
+    }
+
+    @Test
+    void replayLog_ShouldRebuildTheStoredGameFromTheLatestSnapshot() {
+        // Given
+        gameService.addStandardDecksToGame(gameId, 2);
+        gameService.dealRound(gameId, List.of(firstPlayerId, secondPlayerId), 3);
+        gameService.shuffleGameDeck(gameId);
+        gameService.dealCardsToPlayer(gameId, firstPlayerId, 2);
+        gameService.removePlayerFromGame(gameId, secondPlayerId);
+        gameService.shuffleGameDeck(gameId);
+
+        // When
+        GameReplay replay = gameService.replayLog(gameId);
+
+        // Then
+        assertTrue(replay.getConsistent());
+        assertEquals(12, replay.getSequence());
+        assertNotNull(replay.getSnapshotSequence());
+        assertTrue(replay.getReplayedEntries() < 4);
+        assertEquals(List.of(firstPlayerId), List.copyOf(replay.getHands().keySet()));
+    }
+
+    @Test
+    void hotChanges_ShouldBeLoggedWhenWrittenBack() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, firstPlayerId, 2);
+        gameService.shuffleGameDeck(gameId);
+        assertEquals(4, logRepository.findEntriesFrom(gameId, 0, Pageable.unpaged()).size());
+
+        // When
+        hotGameStore.flushDirtyGames();
+        gameService.dealCardsToPlayer(gameId, secondPlayerId, 1);
+        hotGameStore.flushDirtyGames();
+
+        // Then
+        List<GameLogEntry> log = logRepository.findEntriesFrom(gameId, 4, Pageable.unpaged());
+        assertEquals(List.of(GameLogEntry.Type.DEALT, GameLogEntry.Type.SHUFFLED, GameLogEntry.Type.DEALT),
+                log.stream().map(GameLogEntry::getType).toList());
+        assertTrue(gameService.replayLog(gameId).getConsistent());
+    }
+
+    @Test
+    void gameStoredWithoutLog_ShouldStartItOverWithASnapshot() {
+        // Given a game stored before its log was kept
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createNativeQuery("update games set log_length = null where id = :id")
+                .setParameter("id", gameId)
+                .executeUpdate());
+
+        // When
+        gameService.addStandardDecksToGame(gameId, 1);
+
+        // Then
+        GameReplay replay = gameService.replayLog(gameId);
+        assertTrue(replay.getConsistent());
+        assertEquals(2L, replay.getSnapshotSequence());
+        assertEquals(2, logRepository.findEntriesFrom(gameId, 0, Pageable.unpaged()).size());
+    }
+
+    @Test
+    void append_AfterTheGameWasLoggedElsewhere_ShouldConflictOnTheGameVersion() {
+        // Given
+        int logged = logRepository.findEntriesFrom(gameId, 0, Pageable.unpaged()).size();
+
+        // When another instance logs a deal while this one deals from the game as it loaded it
+        assertThrows(OptimisticLockingFailureException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            Game game = gameRepository.findWithDeckAndPlayersById(gameId).orElseThrow();
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(other ->
+                    dealAndLog(gameRepository.findWithDeckAndPlayersById(gameId).orElseThrow()))).join();
+            dealAndLog(game);
+        }));
+
+        // Then only the other deal is logged
+        assertEquals(logged + 1, logRepository.findEntriesFrom(gameId, 0, Pageable.unpaged()).size());
+    }
+
+    @Test
+    void deleteGame_ShouldDeleteItsLog() {
+        // When
+        gameService.deleteGame(gameId);
+
+        // Then
+        assertTrue(logRepository.findEntriesFrom(gameId, 0, Pageable.unpaged()).isEmpty());
+        assertTrue(snapshotRepository.findFirstByGameIdOrderBySequenceDesc(gameId).isEmpty());
+    }
+
+    @Test
+    void logEndpoints_ShouldListEntriesAndReplay() throws Exception {
+        mockMvc.perform(get("/games/{gameId}/log", gameId).param("from", "1").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].sequence").value(1))
+                .andExpect(jsonPath("$[0].type").value("SHUFFLED"))
+                .andExpect(jsonPath("$[1].type").value("PLAYER_JOINED"))
+                .andExpect(jsonPath("$[1].playerId").value(firstPlayerId.toString()));
+
+        mockMvc.perform(get("/games/{gameId}/log/replay", gameId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.logLength").value(4))
+                .andExpect(jsonPath("$.snapshotSequence").value(4))
+                .andExpect(jsonPath("$.undealtCardCount").value(52))
+                .andExpect(jsonPath("$.playerCount").value(2))
+                .andExpect(jsonPath("$.consistent").value(true));
+    }
+
+    private void dealAndLog(Game game) {
+        game.dealCards(game.getPlayers().iterator().next(), 1);
+        gameLog.append(game);
+        gameRepository.save(game);
+    }
+}
@@ -0,0 +1,179 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.application.impl.cache.GameCaches;
+import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that repeated game reads are answered from the cache, and that each
+ * change to a game evicts exactly the cached reads it affects.
+ */
+@SpringBootTest(
+        classes = CardGameDeckApiApplication.class,
+        properties = {
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "card-game.cache.time-to-live-ms=3600000"
+        }
+)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class GameReadCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+    private UUID gameId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        gameId = gameService.createGame("Cached Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Cached Deck").getId());
+        playerId = playerService.createPlayer("Cached Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+    }
+
+    @Test
+    void repeatedReads_ShouldBeServedFromTheCache() {
+        readEverything();
+
+        long statements = statementsFor(this::readEverything);
+
+        assertEquals(0, statements);
+    }
+
+    @Test
+    void dealCardsToPlayer_ShouldEvictTheGamesReads() {
+        readEverything();
+
+        gameService.dealCardsToPlayer(gameId, playerId, 2);
+
+        assertEquals(50, gameService.findSummary(gameId).orElseThrow().getUndealtCardCount());
+        assertEquals(50, gameService.getUndealtCardsBySuit(gameId).values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(50, gameService.getUndealtCardsBySuitAndValue(gameId).values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(2, gameService.getPlayersWithTotalValues(gameId).get(0).getCardCount());
+    }
+
+    @Test
+    void shuffleGameDeck_ShouldKeepTheCachedReads() {
+        readEverything();
+
+        gameService.shuffleGameDeck(gameId);
+
+        assertEquals(0, statementsFor(this::readEverything));
+    }
+
+    @Test
+    void dealCardsToPlayer_ShouldOnlyEvictItsOwnGame() {
+        UUID otherGameId = gameService.createGame("Other Game").getId();
+        gameService.findSummary(otherGameId);
+        readEverything();
+
+        gameService.dealCardsToPlayer(gameId, playerId, 1);
+
+        assertEquals(0, statementsFor(() -> gameService.findSummary(otherGameId)));
+        assertEquals(1, statementsFor(() -> gameService.findSummary(gameId)));
+    }
+
+    @Test
+    void cacheMetrics_ShouldCountHitsAndMisses() {
+        double hitsBefore = cacheGets("hit");
+        double missesBefore = cacheGets("miss");
+
+        gameService.getUndealtCardsBySuit(gameId);
+        gameService.getUndealtCardsBySuit(gameId);
+        gameService.getUndealtCardsBySuit(gameId);
+
+        assertEquals(missesBefore + 1, cacheGets("miss"));
+        assertEquals(hitsBefore + 2, cacheGets("hit"));
+        assertTrue(gameService.getUndealtCardsBySuit(gameId).containsKey(Suit.HEARTS));
+    }
+
+    @Test
+    void readMissingTheCache_WhenTheGameIsEvictedBeforeItsResultIsStored_ShouldNotBeCached() {
+        Cache summaries = cacheManager.getCache(GameCaches.SUMMARIES);
+        assertNull(summaries.get(gameId));
+        GameSummary loaded = gameRepository.findGameSummaryById(gameId).orElseThrow();
+
+        // A change commits while the read is under way
+        summaries.evict(gameId);
+        summaries.put(gameId, loaded);
+
+        assertNull(summaries.get(gameId));
+    }
+
+    @Test
+    void readMissingTheCache_ShouldBeCached() {
+        Cache summaries = cacheManager.getCache(GameCaches.SUMMARIES);
+        assertNull(summaries.get(gameId));
+
+        gameService.findSummary(gameId);
+
+        assertNotNull(summaries.get(gameId));
+        assertEquals(0, statementsFor(() -> gameService.findSummary(gameId)));
+    }
+
+    private void readEverything() {
+        gameService.findSummary(gameId);
+        gameService.getUndealtCardsBySuit(gameId);
+        gameService.getUndealtCardsBySuitAndValue(gameId);
+        gameService.getPlayersWithTotalValues(gameId);
+    }
+
+    private long statementsFor(Runnable reads) {
+        statistics.clear();
+        reads.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private double cacheGets(String result) {
+        return registry.get("cache.gets")
+                .tags("cache", "undealtCardsBySuit", "result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,84 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The summary projection must report the same counts as the loaded aggregate.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class GameSummaryProjectionTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Projected Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("First Deck").getId());
+        gameService.addDeckToGame(gameId, deckService.createDeck("Second Deck").getId());
+
+        for (int i = 1; i <= 3; i++) {
+            UUID playerId = playerService.createPlayer("Player " + i).getId();
+            gameService.addPlayerToGame(gameId, playerId);
+            gameService.dealCardsToPlayer(gameId, playerId, i);
+        }
+    }
+
+    @Test
+    void findSummary_ShouldMatchLoadedGame() {
+        // When
+        GameSummary summary = gameService.findSummary(gameId).orElseThrow();
+
+        // Then
+        assertEquals(gameId, summary.getId());
+        assertEquals("Projected Game", summary.getName());
+        assertEquals(104 - 6, summary.getUndealtCardCount());
+        assertEquals(3, summary.getPlayerCount());
+    }
+
+    @Test
+    void findSummary_WithShoeStoredBeforeCardCount_ShouldCountStoredCards() {
+        // Given
+        jdbcTemplate.update("update game_decks set card_count = null " +
+                "where id = (select game_deck_id from games where id = ?)", gameId);
+
+        // When
+        GameSummary summary = gameService.findSummary(gameId).orElseThrow();
+
+        // Then
+        assertEquals(104 - 6, summary.getUndealtCardCount());
+    }
+
+    @Test
+    void findSummary_WithUnknownGame_ShouldReturnEmpty() {
+        assertTrue(gameService.findSummary(UUID.randomUUID()).isEmpty());
+    }
+}
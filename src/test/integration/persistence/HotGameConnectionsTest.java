@@ -0,0 +1,121 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * With a single connection in the pool, a game in memory is dealt from
+ * without one, and a transaction evicting it writes it back on its own.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class, properties = {
+        "card-game.engine.hot-games.enabled=true",
+        // Flushes and evictions are triggered by the tests
+        "card-game.engine.hot-games.flush-interval-ms=3600000",
+        "card-game.engine.hot-games.eviction-interval-ms=3600000",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class HotGameConnectionsTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private UUID gameId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Pooled Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Pooled Deck").getId());
+
+        playerId = playerService.createPlayer("Pooled Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+
+        // Loads the game into memory
+        gameService.dealCardsToPlayer(gameId, playerId, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void dealCardsToPlayer_WhileTheOnlyConnectionIsInUse_ShouldDealFromMemory() throws Exception {
+        // Given
+        CountDownLatch connected = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            gameRepository.count();
+            connected.countDown();
+            awaitQuietly(release);
+        }));
+        assertTrue(connected.await(30, TimeUnit.SECONDS));
+
+        // When
+        try {
+            gameService.dealCardsToPlayer(gameId, playerId, 3);
+            gameService.shuffleGameDeck(gameId);
+            assertEquals(5, gameService.getPlayersWithTotalValues(gameId).get(0).getCardCount());
+        } finally {
+            release.countDown();
+        }
+
+        // Then
+        holder.get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void addDeckToGame_WithCardsDealtInMemory_ShouldWriteThemBackOnItsOwnConnection() {
+        // When
+        gameService.addStandardDecksToGame(gameId, 1);
+
+        // Then
+        assertEquals(2, playerService.getPlayerCards(playerId).size());
+        assertEquals(102, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
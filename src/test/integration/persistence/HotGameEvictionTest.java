@@ -0,0 +1,125 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.application.impl.DeckService;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * A transaction changing a hot game through the database evicts it first.
+ * Until that transaction completes, deals wait instead of dealing from the
+ * copy in memory or loading the game as it was before the change.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class, properties = {
+        "card-game.engine.hot-games.enabled=true",
+        // Flushes and evictions are triggered by the tests
+        "card-game.engine.hot-games.flush-interval-ms=3600000",
+        "card-game.engine.hot-games.eviction-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class HotGameEvictionTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @SpyBean
+    private DeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private HotGameStore hotGameStore;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private UUID gameId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Evicted Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("First Deck").getId());
+
+        playerId = playerService.createPlayer("Evicted Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+
+        // Dealt in memory
+        gameService.dealCardsToPlayer(gameId, playerId, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void dealCardsToPlayer_WhileAddDeckToGameIsUnderWay_ShouldWaitAndKeepBothChanges() throws Exception {
+        // Given a deck added in a transaction that has evicted the game and not committed yet
+        UUID secondDeckId = deckService.createDeck("Second Deck").getId();
+        CountDownLatch evicted = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            evicted.countDown();
+            assertTrue(resume.await(30, TimeUnit.SECONDS));
+            return invocation.callRealMethod();
+        }).when(deckService).findById(secondDeckId);
+
+        Future<?> addDeck = executor.submit(() -> gameService.addDeckToGame(gameId, secondDeckId));
+        assertTrue(evicted.await(30, TimeUnit.SECONDS));
+
+        // When
+        Future<?> deal = executor.submit(() -> gameService.dealCardsToPlayer(gameId, playerId, 3));
+
+        // Then the deal waits for the deck to be added, and deals from the shoe holding it
+        assertThrows(TimeoutException.class, () -> deal.get(300, TimeUnit.MILLISECONDS));
+        resume.countDown();
+        addDeck.get(30, TimeUnit.SECONDS);
+        deal.get(30, TimeUnit.SECONDS);
+
+        hotGameStore.flushDirtyGames();
+
+        assertEquals(5, playerService.getPlayerCards(playerId).size());
+        assertEquals(99, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void addDeckToGame_WhenRolledBack_ShouldKeepTheGameInMemory() {
+        // When the transaction that evicted the game fails
+        assertThrows(EntityNotFoundException.class, () ->
+                gameService.addDeckToGame(gameId, UUID.randomUUID())
+        );
+
+        // Then the cards dealt in memory are still there, and written back by the next flush
+        assertTrue(hotGameStore.readIfHot(gameId, game -> game.getGameDeck().getUndealtCount()).isPresent());
+        hotGameStore.flushDirtyGames();
+        assertEquals(2, playerService.getPlayerCards(playerId).size());
+        assertEquals(50, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+}
@@ -0,0 +1,220 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.application.impl.engine.HotGameStore;
+import com.cardgamedeck.card_game_deck_api.application.impl.event.GameEventHub;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * With the hot game engine on, deals stay in memory until a flush, an
+ * eviction or shutdown writes them back.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class, properties = {
+        "card-game.engine.hot-games.enabled=true",
+        // Flushes and evictions are triggered by the tests
+        "card-game.engine.hot-games.flush-interval-ms=3600000",
+        "card-game.engine.hot-games.eviction-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class HotGameWriteBehindTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private HotGameStore hotGameStore;
+
+    @Autowired
+    private GameEventHub events;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID gameId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Hot Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Hot Deck").getId());
+
+        playerId = playerService.createPlayer("Hot Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+    }
+
+    @Test
+    void dealCardsToPlayer_ShouldPersistOnFlush() {
+        // When
+        gameService.dealCardsToPlayer(gameId, playerId, 5);
+
+        // Then
+        assertEquals(0, playerService.getPlayerCards(playerId).size());
+        assertEquals(47, gameService.findSummary(gameId).orElseThrow().getUndealtCardCount());
+
+        hotGameStore.flushDirtyGames();
+
+        assertEquals(5, playerService.getPlayerCards(playerId).size());
+        assertEquals(47, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void dealCardsToPlayer_AfterFlush_ShouldKeepDealingFromMemory() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 5);
+        hotGameStore.flushDirtyGames();
+
+        // When
+        gameService.dealCardsToPlayer(gameId, playerId, 3);
+        hotGameStore.flushDirtyGames();
+
+        // Then
+        assertEquals(8, playerService.getPlayerCards(playerId).size());
+        assertEquals(44, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void evict_ShouldPersistAndDropTheGame() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 2);
+
+        // When
+        hotGameStore.evict(gameId);
+
+        // Then
+        assertTrue(hotGameStore.readIfHot(gameId, game -> game).isEmpty());
+        assertEquals(2, playerService.getPlayerCards(playerId).size());
+    }
+
+    @Test
+    void flushOnShutdown_ShouldPersistEveryHotGame() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 4);
+
+        // When
+        hotGameStore.flushOnShutdown();
+
+        // Then
+        assertEquals(0, hotGameStore.size());
+        assertEquals(4, playerService.getPlayerCards(playerId).size());
+    }
+
+    @Test
+    void addPlayerToGame_ShouldSeeCardsDealtInMemory() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 5);
+        UUID secondPlayerId = playerService.createPlayer("Second Player").getId();
+
+        // When
+        gameService.addPlayerToGame(gameId, secondPlayerId);
+        gameService.dealCardsToPlayer(gameId, secondPlayerId, 1);
+        hotGameStore.flushDirtyGames();
+
+        // Then
+        assertEquals(5, playerService.getPlayerCards(playerId).size());
+        assertEquals(1, playerService.getPlayerCards(secondPlayerId).size());
+        assertEquals(46, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void clearPlayerCards_ShouldNotBeUndoneByTheNextFlush() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 5);
+
+        // When
+        playerService.clearPlayerCards(playerId);
+        gameService.dealCardsToPlayer(gameId, playerId, 1);
+        hotGameStore.flushDirtyGames();
+
+        // Then
+        assertEquals(1, playerService.getPlayerCards(playerId).size());
+        assertEquals(46, gameRepository.findGameSummaryById(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void dealCardsToPlayer_WithUnknownGame_ShouldNotKeepAnEntry() {
+        // Given
+        int hotGames = hotGameStore.size();
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () ->
+                gameService.dealCardsToPlayer(UUID.randomUUID(), playerId, 1)
+        );
+        assertEquals(hotGames, hotGameStore.size());
+    }
+
+    @Test
+    void dealCardsToPlayer_FromSeveralThreads_ShouldPublishTheDealsInOrder() throws Exception {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 1);
+        List<Integer> undealtCounts = new ArrayList<>();
+        Runnable unsubscribe = events.subscribe(gameId, event -> {
+            synchronized (undealtCounts) {
+                undealtCounts.add(event.getSummary().getUndealtCardCount());
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        try {
+            List<Future<?>> deals = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                deals.add(executor.submit(() -> gameService.dealCardsToPlayer(gameId, playerId, 1)));
+            }
+            for (Future<?> deal : deals) {
+                deal.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+            unsubscribe.run();
+        }
+
+        // Then
+        List<Integer> expected = new ArrayList<>();
+        for (int undealt = 50; undealt > 10; undealt--) {
+            expected.add(undealt);
+        }
+        assertEquals(expected, undealtCounts);
+    }
+
+    @Test
+    void update_InTransaction_ShouldBeRejected() {
+        // Given
+        gameService.dealCardsToPlayer(gameId, playerId, 1);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status ->
+                hotGameStore.update(gameId, game -> game.getGameDeck().getUndealtCount())
+        ));
+    }
+}
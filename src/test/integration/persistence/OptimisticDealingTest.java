@@ -0,0 +1,131 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.domain.model.Game;
+import com.cardgamedeck.card_game_deck_api.domain.model.Player;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Without the in-process game lock, as between two instances, versioned
+ * entities still keep concurrent deals from handing out the same card.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class,
+        properties = "card-game.concurrency.game-locks.enabled=false")
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class OptimisticDealingTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID gameId;
+    private List<UUID> playerIds;
+
+    @BeforeEach
+    void setUp() {
+        gameId = gameService.createGame("Contended Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Contended Deck").getId());
+
+        playerIds = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            UUID playerId = playerService.createPlayer("Contended Player " + i).getId();
+            gameService.addPlayerToGame(gameId, playerId);
+            playerIds.add(playerId);
+        }
+    }
+
+    @Test
+    void dealCardsToPlayer_FromManyThreads_ShouldDealEveryCardOnce() throws Exception {
+        // When
+        ConcurrentDeals deals = new ConcurrentDeals(gameService, playerService);
+        deals.run(gameId, playerIds, 8);
+
+        // Then deals that ran out of retries were rejected as a whole
+        deals.assertEveryCardDealtOnce(playerIds, 52);
+        assertEquals(0, gameService.findSummary(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void dealCards_FromTwoTransactionsOnTheSameVersion_ShouldRejectTheSecondCommit() throws Exception {
+        // Given two transactions that read the game before either commits
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        CountDownLatch bothRead = new CountDownLatch(2);
+        CountDownLatch firstCommitted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+            dealOneCard(bothRead);
+        }));
+        Future<?> second = executor.submit(() -> {
+            transaction.executeWithoutResult(status -> {
+                dealOneCard(bothRead);
+                awaitQuietly(firstCommitted);
+            });
+            return null;
+        });
+        first.get();
+        firstCommitted.countDown();
+
+        // Then
+        Exception failure = assertThrows(Exception.class, second::get);
+        assertInstanceOf(OptimisticLockingFailureException.class, failure.getCause());
+        assertEquals(51, gameService.findSummary(gameId).orElseThrow().getUndealtCardCount());
+        executor.shutdown();
+    }
+
+    private void dealOneCard(CountDownLatch bothRead) {
+        Game game = gameRepository.findWithDeckAndPlayersById(gameId).orElseThrow();
+        Player player = game.getPlayers().iterator().next();
+        player.getCards();
+        bothRead.countDown();
+        awaitQuietly(bothRead);
+
+        game.dealCards(player, 1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.application.api.IPlayerService;
+import com.cardgamedeck.card_game_deck_api.domain.model.GameDeck;
+import com.cardgamedeck.card_game_deck_api.domain.repository.IGameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The recorded shuffle seeds rebuild a stored shoe's draw order.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class ShuffleReplayTest {
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private IPlayerService playerService;
+
+    @Autowired
+    private IGameRepository gameRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void replayOrder_OfStoredShoe_ShouldMatchStoredOrder() {
+        // Given a shoe shuffled as each deck was added, dealt from and shuffled again
+        UUID gameId = gameService.createGame("Audited Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("First Deck").getId());
+        gameService.addDeckToGame(gameId, deckService.createDeck("Second Deck").getId());
+        UUID playerId = playerService.createPlayer("Audited Player").getId();
+        gameService.addPlayerToGame(gameId, playerId);
+        gameService.dealCardsToPlayer(gameId, playerId, 7);
+        gameService.shuffleGameDeck(gameId);
+
+        // When & Then
+        transactionTemplate.executeWithoutResult(status -> {
+            GameDeck shoe = gameRepository.findWithDeckAndPlayersById(gameId).orElseThrow().getGameDeck();
+            assertTrue(shoe.isReplayable());
+            assertEquals(3, shoe.getShuffles().size());
+            assertEquals(shoe.getCards(), shoe.replayOrder());
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package integration.persistence;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.DeckDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the statements prepared by the endpoints that write whole decks of
+ * cards, so deck cards keep going out in JDBC batches rather than one
+ * statement per card, and a shoe keeps its draw order in its own row.
+ */
+@SpringBootTest(
+        classes = CardGameDeckApiApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class WriteBatchingStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        gameId = gameService.createGame("Batching Game").getId();
+    }
+
+    @Test
+    void createDeck_ShouldInsertCardsInOneBatch() throws Exception {
+        long statements = statementsFor(post("/decks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DeckDTO(null, "Batched Deck", 0))));
+
+        // the deck row, then its 52 card rows in one batch
+        assertEquals(2, statements);
+    }
+
+    @Test
+    void addDeckToGame_ShouldWriteShoeInBatches() throws Exception {
+        gameService.addDeckToGame(gameId, deckService.createDeck("First Deck").getId());
+        UUID deckId = deckService.createDeck("Second Deck").getId();
+
+        long statements = statementsFor(post("/games/{gameId}/decks/{deckId}", gameId, deckId));
+
+        // game graph, deck with its cards and shuffle records; then the game row,
+        // the shoe row holding the whole draw order, and the shuffle record
+        assertEquals(6, statements);
+    }
+
+    @Test
+    void addStandardDecksToGame_ShouldWriteWholeShoeInOneBatch() throws Exception {
+        long statements = statementsFor(post("/games/{gameId}/decks", gameId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"deckCount\": 8}"));
+
+        // game graph and shuffle records; then the game row, the shoe row holding
+        // the 416-card draw order, and the shuffle record
+        assertEquals(5, statements);
+        assertEquals(416, gameService.findSummary(gameId).orElseThrow().getUndealtCardCount());
+    }
+
+    @Test
+    void shuffleGameDeck_ShouldWriteDrawOrderAsOneRow() throws Exception {
+        gameService.addStandardDecksToGame(gameId, 8);
+
+        long statements = statementsFor(post("/games/{gameId}/deck/shuffle", gameId));
+
+        // game graph and shuffle records; then the game row, the shoe row and the shuffle record
+        assertEquals(5, statements);
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from game_deck_cards c "
+                + "join games g on g.game_deck_id = c.game_deck_id where g.id = ?", Integer.class, gameId));
+    }
+
+    @Test
+    void createDecks_ShouldWriteEachChunkInBatches() {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            names.add("Bulk Deck " + i);
+        }
+        List<UUID> created = new ArrayList<>();
+
+        statistics.clear();
+        deckService.createDecks(names, deck -> created.add(deck.getId()));
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(250, created.size());
+        assertEquals(250, created.stream().filter(deckService::existsById).count());
+        // chunks of 200 and 50 decks, each written as one deck batch and one card batch
+        assertEquals(4, statements);
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,109 @@
+package integration.threads;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IDeckService;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Game event streams hold a connection but no request thread while they wait
+ * for changes, so a server with a handful of request threads keeps hundreds
+ * of streams open and pushes every change to all of them.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=8",
+                "server.tomcat.threads.min-spare=4"
+        })
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class EventStreamConnectionsTest {
+
+    private static final int STREAMS = 400;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Autowired
+    private IDeckService deckService;
+
+    @Test
+    void streams_ShouldOutnumberRequestThreads() throws Exception {
+        UUID gameId = gameService.createGame("Watched Game").getId();
+        gameService.addDeckToGame(gameId, deckService.createDeck("Watched Deck").getId());
+
+        CountDownLatch opened = new CountDownLatch(STREAMS);
+        CountDownLatch shuffled = new CountDownLatch(STREAMS);
+        CountDownLatch ended = new CountDownLatch(STREAMS);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/games/" + gameId + "/events"))
+                .GET()
+                .build();
+        for (int i = 0; i < STREAMS; i++) {
+            client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new EventLines(opened, shuffled, ended)));
+        }
+        assertTrue(opened.await(30, TimeUnit.SECONDS), "Streams left to open: " + opened.getCount());
+
+        gameService.shuffleGameDeck(gameId);
+        assertTrue(shuffled.await(30, TimeUnit.SECONDS), "Streams left without the shuffle: " + shuffled.getCount());
+
+        gameService.deleteGame(gameId);
+        assertTrue(ended.await(30, TimeUnit.SECONDS), "Streams left open: " + ended.getCount());
+    }
+
+    // Counts down as the stream sends the current game, a shuffle, and ends
+    private static class EventLines implements Flow.Subscriber<String> {
+
+        private final CountDownLatch opened;
+        private final CountDownLatch shuffled;
+        private final CountDownLatch ended;
+
+        EventLines(CountDownLatch opened, CountDownLatch shuffled, CountDownLatch ended) {
+            this.opened = opened;
+            this.shuffled = shuffled;
+            this.ended = ended;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.equals("event:game")) {
+                opened.countDown();
+            } else if (line.equals("event:shuffled")) {
+                shuffled.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            ended.countDown();
+        }
+    }
+}
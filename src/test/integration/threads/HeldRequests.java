@@ -0,0 +1,85 @@
+package integration.threads;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds every request on its way in until released, so the requests a test
+ * sends pile up on the server and the number held at once is the number of
+ * requests it serves concurrently.
+ */
+class HeldRequests extends OncePerRequestFilter {
+
+    private final AtomicInteger held = new AtomicInteger();
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        held.incrementAndGet();
+        try {
+            released.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            held.decrementAndGet();
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Sends the same request {@code count} times at once, each on its own connection.
+     */
+    List<CompletableFuture<HttpResponse<Void>>> send(URI uri, int count) {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        return responses;
+    }
+
+    /**
+     * Waits until {@code count} requests are held or the timeout passes.
+     *
+     * @return the number of requests held
+     */
+    int awaitHeld(int count, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (held.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        return held.get();
+    }
+
+    /**
+     * Lets the held requests through and waits for all of their responses.
+     *
+     * @return the status code of each response
+     */
+    List<Integer> releaseAndAwait(List<CompletableFuture<HttpResponse<Void>>> responses) throws Exception {
+        released.countDown();
+        List<Integer> statuses = new ArrayList<>(responses.size());
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            statuses.add(response.get(1, TimeUnit.MINUTES).statusCode());
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,55 @@
+package integration.threads;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * On platform threads, the server runs at most as many requests at once as
+ * Tomcat has threads (200 by default); the rest wait for one to free up.
+ */
+@SpringBootTest(classes = CardGameDeckApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(HeldRequests.class)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class PlatformThreadRequestsTest {
+
+    private static final int REQUESTS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private HeldRequests heldRequests;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Test
+    void concurrentRequests_ShouldBeCappedByTheThreadPool() throws Exception {
+        UUID gameId = gameService.createGame("Crowded Game").getId();
+        URI uri = URI.create("http://localhost:" + port + "/api/games/" + gameId);
+
+        List<CompletableFuture<HttpResponse<Void>>> responses = heldRequests.send(uri, REQUESTS);
+        int held = heldRequests.awaitHeld(REQUESTS, Duration.ofSeconds(3));
+
+        assertEquals(200, held);
+        assertTrue(heldRequests.releaseAndAwait(responses).stream().allMatch(status -> status == 200));
+    }
+}
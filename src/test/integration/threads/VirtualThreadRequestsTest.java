@@ -0,0 +1,60 @@
+package integration.threads;
+
+import com.cardgamedeck.card_game_deck_api.CardGameDeckApiApplication;
+import com.cardgamedeck.card_game_deck_api.application.api.IGameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * With the {@code virtual} profile, every request gets its own virtual
+ * thread, so the server runs far more requests at once than the 200 the
+ * Tomcat thread pool allows. Runs on Java 21 or later only.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(classes = CardGameDeckApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(HeldRequests.class)
+@ActiveProfiles({"test", "virtual"})
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class VirtualThreadRequestsTest {
+
+    private static final int REQUESTS = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private HeldRequests heldRequests;
+
+    @Autowired
+    private IGameService gameService;
+
+    @Test
+    void concurrentRequests_ShouldAllRunAtOnce() throws Exception {
+        UUID gameId = gameService.createGame("Crowded Game").getId();
+        URI uri = URI.create("http://localhost:" + port + "/api/games/" + gameId);
+
+        List<CompletableFuture<HttpResponse<Void>>> responses = heldRequests.send(uri, REQUESTS);
+        int held = heldRequests.awaitHeld(REQUESTS, Duration.ofSeconds(30));
+
+        assertEquals(REQUESTS, held);
+        // Released all at once, they share the connection pool of the profile
+        assertTrue(heldRequests.releaseAndAwait(responses).stream().allMatch(status -> status == 200));
+    }
+}
@@ -8,7 +8,6 @@ import com.cardgamedeck.card_game_deck_api.presentation.mapper.CardMapper;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import utils.TestUtils;
 
 import java.util.UUID;
 
@@ -24,10 +23,9 @@ class CardMapperTest {
     void setUp() {
         cardMapper = new CardMapper();
 
-        // Create test card
-        cardId = UUID.randomUUID();
-        testCard = new Card(Suit.HEARTS, Value.ACE);
-        TestUtils.setPrivateId(testCard, cardId);
+        // Take the test card from the catalogue
+        testCard = Card.of(Suit.HEARTS, Value.ACE);
+        cardId = testCard.getId();
     }
 
     @Test
@@ -52,4 +50,14 @@ class CardMapperTest {
         assertNull(result);
     }
 
+    @Test
+    void toDTO_WithSameCatalogueCard_ShouldMapToSameId() {
+        // When
+        CardDTO first = cardMapper.toDTO(Card.of(Suit.SPADES, Value.KING));
+        CardDTO second = cardMapper.toDTO(Card.fromOrdinal(Card.of(Suit.SPADES, Value.KING).getOrdinal()));
+
+        // Then
+        assertEquals(first.getId(), second.getId());
+    }
+
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.cardgamedeck.card_game_deck_api.domain.model.Game;
 import com.cardgamedeck.card_game_deck_api.domain.model.GameDeck;
 import com.cardgamedeck.card_game_deck_api.domain.model.Player;
 import com.cardgamedeck.card_game_deck_api.domain.model.enums.Suit;
+import com.cardgamedeck.card_game_deck_api.domain.repository.projection.GameSummary;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.GameDTO;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountBySuitResponse;
 import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CardCountByValueResponse;
@@ -74,12 +75,28 @@ class GameMapperTest {
     @Test
     void toDTO_WithNullGame_ShouldReturnNull() {
         // When
-        GameDTO result = gameMapper.toDTO(null);
+        GameDTO result = gameMapper.toDTO((Game) null);
 
         // Then
         assertNull(result);
     }
 
+    @Test
+    void toDTO_WithGameSummary_ShouldMapAllProperties() {
+        // Given
+        GameSummary summary = Mockito.mock(GameSummary.class);
+        Mockito.when(summary.getId()).thenReturn(gameId);
+        Mockito.when(summary.getName()).thenReturn("Test Game");
+        Mockito.when(summary.getUndealtCardCount()).thenReturn(97);
+        Mockito.when(summary.getPlayerCount()).thenReturn(3);
+
+        // When
+        GameDTO result = gameMapper.toDTO(summary);
+
+        // Then
+        assertEquals(new GameDTO(gameId, "Test Game", 97, 3), result);
+    }
+
     @Test
     void toCardCountBySuitResponse_WithValidMap_ShouldCreateResponse() {
         // Given
@@ -0,0 +1,88 @@
+package presentation.mapper;
+
+import com.cardgamedeck.card_game_deck_api.domain.model.Deck;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.request.PageCursor;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.CursorPageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.dto.response.PageResponse;
+import com.cardgamedeck.card_game_deck_api.presentation.mapper.PageMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import utils.TestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageMapperTest {
+
+    private PageMapper pageMapper;
+    private Deck firstDeck;
+    private Deck secondDeck;
+
+    @BeforeEach
+    void setUp() {
+        pageMapper = new PageMapper();
+
+        firstDeck = new Deck("First Deck");
+        secondDeck = new Deck("Second Deck");
+        TestUtils.setPrivateId(firstDeck, UUID.randomUUID());
+        TestUtils.setPrivateId(secondDeck, UUID.randomUUID());
+    }
+
+    @Test
+    void toPageResponse_ShouldMapContentAndTotals() {
+        // Given
+        PageImpl<Deck> page = new PageImpl<>(List.of(firstDeck, secondDeck), PageRequest.of(2, 2), 7);
+
+        // When
+        PageResponse<String> result = pageMapper.toPageResponse(page, Deck::getName);
+
+        // Then
+        assertEquals(List.of("First Deck", "Second Deck"), result.getContent());
+        assertEquals(2, result.getPage());
+        assertEquals(2, result.getSize());
+        assertEquals(7, result.getTotalElements());
+        assertEquals(4, result.getTotalPages());
+    }
+
+    @Test
+    void toCursorPageResponse_WithFullPage_ShouldPointAfterLastEntity() {
+        // When
+        CursorPageResponse<String> result = pageMapper.toCursorPageResponse(List.of(firstDeck, secondDeck), 2, Deck::getName);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        PageCursor cursor = pageMapper.decodeCursor(result.getNextCursor());
+        assertEquals(secondDeck.getCreatedAt(), cursor.getCreatedAt());
+        assertEquals(secondDeck.getId(), cursor.getId());
+    }
+
+    @Test
+    void toCursorPageResponse_WithShortPage_ShouldHaveNoNextCursor() {
+        // When
+        CursorPageResponse<String> result = pageMapper.toCursorPageResponse(List.of(firstDeck), 2, Deck::getName);
+
+        // Then
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void decodeCursor_WithNoCursor_ShouldReturnStartPosition() {
+        // When
+        PageCursor cursor = pageMapper.decodeCursor(null);
+
+        // Then
+        assertNull(cursor.getCreatedAt());
+        assertNull(cursor.getId());
+    }
+
+    @Test
+    void decodeCursor_WithMalformedCursor_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> pageMapper.decodeCursor("not-a-cursor"));
+    }
+}
@@ -14,8 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import utils.TestUtils;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,7 +25,7 @@ class PlayerMapperTest {
     private PlayerMapper playerMapper;
     private Player testPlayer;
     private UUID playerId;
-    private Set<CardDTO> cardDTOs;
+    private List<CardDTO> cardDTOs;
 
     @BeforeEach
     void setUp() {
@@ -37,15 +37,13 @@ class PlayerMapperTest {
         TestUtils.setPrivateId(testPlayer, playerId);
 
         // Add some cards to the player
-        Card card1 = new Card(Suit.HEARTS, Value.ACE);
-        Card card2 = new Card(Suit.SPADES, Value.KING);
-        TestUtils.setPrivateId(card1, UUID.randomUUID());
-        TestUtils.setPrivateId(card2, UUID.randomUUID());
+        Card card1 = Card.of(Suit.HEARTS, Value.ACE);
+        Card card2 = Card.of(Suit.SPADES, Value.KING);
         testPlayer.addCard(card1);
         testPlayer.addCard(card2);
 
         // Create CardDTOs for testing
-        cardDTOs = new HashSet<>();
+        cardDTOs = new ArrayList<>();
         cardDTOs.add(new CardDTO(card1.getId(), card1.getSuit(), card1.getValue(), card1.getFaceValue()));
         cardDTOs.add(new CardDTO(card2.getId(), card2.getSuit(), card2.getValue(), card2.getFaceValue()));
     }
@@ -24,4 +24,40 @@ public class TestUtils {
             Assertions.fail("Failed to set ID: " + e.getMessage());
         }
     }
+
+    /**
+     * Reads a private field declared on the entity's own class using reflection.
+     * This is used in tests to inspect persistent state that has no getter.
+     *
+     * @param entity The entity object to read from
+     * @param fieldName The name of the field
+     * @return The current value of the field
+     */
+    public static Object getPrivateField(Object entity, String fieldName) {
+        try {
+            Field field = entity.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field.get(entity);
+        } catch (Exception e) {
+            return Assertions.fail("Failed to read " + fieldName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets a private field declared on the entity's own class using reflection.
+     * This is used in tests to simulate state that JPA would restore on load.
+     *
+     * @param entity The entity object to modify
+     * @param fieldName The name of the field
+     * @param value The value to set
+     */
+    public static void setPrivateField(Object entity, String fieldName, Object value) {
+        try {
+            Field field = entity.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(entity, value);
+        } catch (Exception e) {
+            Assertions.fail("Failed to set " + fieldName + ": " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file